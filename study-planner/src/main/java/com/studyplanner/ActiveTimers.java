@@ -0,0 +1,110 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongSupplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The countdowns that are running, all measured against one monotonic
+ * clock.
+ *
+ * A countdown stores only the clock reading at which it ends; what is left
+ * is worked out from the clock whenever it is shown, so no countdown drifts
+ * and a late or skipped tick costs nothing. Ends also sit in a priority
+ * queue, so each {@link #tick()} only looks at the countdowns that just
+ * finished, however many are running. A stopped countdown is left in the
+ * queue and skipped when it comes up, and a countdown's row is found through
+ * an index and filled by the last row, so neither stopping one nor ticking
+ * walks the list.
+ *
+ * Not thread-safe: use it from the FX thread, like the list it exposes.
+ */
+final class ActiveTimers {
+
+    /** A running countdown for {@code task}, ending when the clock reaches {@code endNanos}. */
+    record Countdown(Task task, long endNanos) {
+        /** Whole seconds left at {@code nowNanos}, rounded up so 0 means done. */
+        long remainingSeconds(long nowNanos) {
+            long left = endNanos - nowNanos;
+            return left <= 0 ? 0 : (left + 999_999_999) / 1_000_000_000;
+        }
+    }
+
+    private final LongSupplier nanoTime;
+    private final ObservableList<Countdown> active = FXCollections.observableArrayList();
+    private final PriorityQueue<Countdown> byEnd =
+        new PriorityQueue<>((a, b) -> Long.compare(a.endNanos(), b.endNanos()));
+    private final Map<Task, Countdown> byTask = new HashMap<>();
+    private final Map<Task, Integer> rowOf = new HashMap<>();
+
+    ActiveTimers() {
+        this(System::nanoTime);
+    }
+
+    ActiveTimers(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    long now() { return nanoTime.getAsLong(); }
+
+    /** The running countdowns; when one ends, the last row takes its place. */
+    ObservableList<Countdown> active() { return active; }
+
+    /** Starts counting down {@code task}'s duration; returns false if it is already running. */
+    boolean start(Task task) {
+        return start(task, task.getDuration());
+    }
+
+    /** Starts counting down {@code remaining}, e.g. for a timer resumed after a restart. */
+    boolean start(Task task, Duration remaining) {
+        if (byTask.containsKey(task)) return false;
+        Countdown c = new Countdown(task, now() + remaining.toNanos());
+        byTask.put(task, c);
+        byEnd.add(c);
+        rowOf.put(task, active.size());
+        active.add(c);
+        return true;
+    }
+
+    /** Stops {@code task}'s countdown early, e.g. when it is completed. */
+    void stop(Task task) {
+        if (byTask.remove(task) != null) removeRow(task);
+    }
+
+    /** Removes {@code task}'s row, moving the last row into its place. */
+    private void removeRow(Task task) {
+        int row = rowOf.remove(task);
+        int last = active.size() - 1;
+        if (row != last) {
+            Countdown moved = active.get(last);
+            active.set(row, moved);
+            rowOf.put(moved.task(), row);
+        }
+        active.remove(last);
+    }
+
+    /** Removes the countdowns that have ended and returns their tasks, earliest first. */
+    List<Task> tick() {
+        long now = now();
+        List<Countdown> finished = new ArrayList<>();
+        while (!byEnd.isEmpty() && byEnd.peek().endNanos() <= now) {
+            Countdown c = byEnd.poll();
+            // Stopped, or stopped and started again, since it was queued
+            if (byTask.get(c.task()) != c) continue;
+            byTask.remove(c.task());
+            removeRow(c.task());
+            finished.add(c);
+        }
+        if (finished.isEmpty()) return List.of();
+        List<Task> tasks = new ArrayList<>(finished.size());
+        for (Countdown c : finished) tasks.add(c.task());
+        return tasks;
+    }
+}
@@ -0,0 +1,80 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.util.List;
+
+import javafx.geometry.Insets;
+import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+
+/**
+ * One window listing every running countdown, in place of a popup and a
+ * Timeline per task. The app's one-second clock tick calls {@link #tick()}.
+ *
+ * A tick re-renders only the rows the list is showing, and finishing
+ * countdowns are found through {@link ActiveTimers}' end-time queue, so
+ * the cost of a tick does not grow with the number of timers.
+ */
+class ActiveTimersView {
+
+    private final ActiveTimers timers = new ActiveTimers();
+    private final ListView<ActiveTimers.Countdown> list = new ListView<>(timers.active());
+    private Stage stage;
+
+    ActiveTimersView() {
+        list.setCellFactory(v -> new ListCell<>() {
+            @Override
+            protected void updateItem(ActiveTimers.Countdown c, boolean empty) {
+                super.updateItem(c, empty);
+                if (empty || c == null) {
+                    setText(null);
+                } else {
+                    long left = c.remainingSeconds(timers.now());
+                    setText(String.format("%s  %02d:%02d", c.task().getTitle(), left / 60, left % 60));
+                }
+            }
+        });
+    }
+
+    /** Starts {@code task}'s countdown and brings the window up. */
+    void start(Task task) {
+        start(task, task.getDuration());
+    }
+
+    /** Starts {@code task}'s countdown with {@code remaining} left and brings the window up. */
+    void start(Task task, Duration remaining) {
+        timers.start(task, remaining);
+        if (stage == null) {
+            VBox vb = new VBox(10, new Label("Active timers"), list);
+            vb.setPadding(new Insets(20));
+            stage = new Stage();
+            stage.setScene(new Scene(vb, 320, 240));
+            stage.setTitle("⏱ Timers");
+        }
+        stage.show();
+    }
+
+    void stop(Task task) {
+        timers.stop(task);
+    }
+
+    /** Advances the view by one tick: refreshes visible rows and announces finished timers together. */
+    void tick() {
+        List<Task> finished = timers.tick();
+        if (timers.active().isEmpty()) {
+            if (stage != null) stage.hide();
+        } else {
+            list.refresh();
+        }
+        if (!finished.isEmpty()) {
+            StringBuilder message = new StringBuilder("Time's up for:");
+            for (Task t : finished) message.append("\n").append(t.getTitle());
+            new Alert(Alert.AlertType.INFORMATION, message.toString()).show();
+        }
+    }
+}
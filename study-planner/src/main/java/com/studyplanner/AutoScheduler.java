@@ -0,0 +1,217 @@
+package com.studyplanner;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Picks start times for tasks so that none overlap each other or the tasks
+ * already pinned to a time, within the hours the user is available.
+ *
+ * Free time is built with one sweep over the available windows and the
+ * busy intervals, both in time order, into a list of gaps sorted by start.
+ * Tasks are then placed earliest due date first, ties going to higher
+ * priority and then higher complexity, each into the first gap long enough
+ * to hold it. A task that cannot finish by the end of its due date is still
+ * placed, as early as possible, and counted as late; one longer than every
+ * gap is left unplaced.
+ *
+ * Placing a task only shortens a gap from its start, so the gaps keep their
+ * order and a max-tree over their lengths finds the first that fits in
+ * O(log g) for g gaps, whatever the mix of task lengths. Scheduling n tasks
+ * costs O(n log n + g log g).
+ *
+ * Times are handled as epoch seconds of the local date-time, as in
+ * {@link TaskSchema}.
+ */
+public final class AutoScheduler {
+
+    /** How many days past the latest due date late tasks may still be placed. */
+    static final int SLACK_DAYS = 28;
+
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(30);
+
+    /** Where one task was put. */
+    public record Placement(Task task, LocalDateTime start, Duration duration) {
+        public LocalDateTime end() { return start.plus(duration); }
+    }
+
+    /** How good a schedule is; lateness is measured past the end of each due date. */
+    public record Quality(int placed, int unplaced, int late, long latenessSeconds) {
+        /** Fraction of all tasks placed to finish on time. */
+        public double onTimeRatio() {
+            int total = placed + unplaced;
+            return total == 0 ? 1 : (double) (placed - late) / total;
+        }
+    }
+
+    public record Result(List<Placement> placed, List<Task> unplaced, Quality quality) {
+        /** Sets each placed task's start time. */
+        public void apply() {
+            for (Placement p : placed) p.task().setStartTime(p.start());
+        }
+    }
+
+    // Earliest due first, then priority, then the harder task; ids keep it total
+    private static final Comparator<Task> PLACEMENT_ORDER = (a, b) -> {
+        int c = Long.compare(a.getDueEpochDay(), b.getDueEpochDay());
+        if (c != 0) return c;
+        c = Integer.compare(a.getPriorityRank(), b.getPriorityRank());
+        if (c != 0) return c;
+        c = Integer.compare(b.getComplexity(), a.getComplexity());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final Set<DayOfWeek> days;
+
+    /** Available from {@code dayStart} to {@code dayEnd} on each of {@code days}. */
+    public AutoScheduler(LocalTime dayStart, LocalTime dayEnd, Set<DayOfWeek> days) {
+        if (!dayEnd.isAfter(dayStart)) throw new IllegalArgumentException("Day must end after it starts");
+        if (days.isEmpty()) throw new IllegalArgumentException("No available days");
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.days = EnumSet.copyOf(days);
+    }
+
+    /**
+     * Schedules {@code tasks} no earlier than {@code notBefore}, around the
+     * time already taken by {@code busy}. Tasks are not modified; call
+     * {@link Result#apply()} to take the schedule.
+     */
+    public Result schedule(Collection<Task> tasks, Collection<Task> busy, LocalDateTime notBefore) {
+        List<Task> order = new ArrayList<>(tasks);
+        order.sort(PLACEMENT_ORDER);
+
+        Gaps gaps = freeGaps(busy, notBefore, lastDay(order, notBefore));
+
+        List<Placement> placed = new ArrayList<>(order.size());
+        List<Task> unplaced = new ArrayList<>();
+        int late = 0;
+        long lateness = 0;
+        for (Task t : order) {
+            Duration duration = durationOf(t);
+            long start = gaps.take(duration.getSeconds());
+            if (start < 0) {
+                unplaced.add(t);
+                continue;
+            }
+            placed.add(new Placement(t, TaskSchema.dateTime(start), duration));
+            if (t.getDate() != null) {
+                long deadline = TaskSchema.epochSecond(t.getDate().plusDays(1).atStartOfDay());
+                long over = start + duration.getSeconds() - deadline;
+                if (over > 0) {
+                    late++;
+                    lateness += over;
+                }
+            }
+        }
+        return new Result(placed, unplaced, new Quality(placed.size(), unplaced.size(), late, lateness));
+    }
+
+    private static Duration durationOf(Task t) {
+        return t.getDuration() == null ? DEFAULT_DURATION : t.getDuration();
+    }
+
+    private static LocalDate lastDay(List<Task> order, LocalDateTime notBefore) {
+        LocalDate last = notBefore.toLocalDate();
+        for (int i = order.size() - 1; i >= 0; i--) {
+            LocalDate due = order.get(i).getDate();
+            if (due != null) {
+                if (due.isAfter(last)) last = due;
+                break;
+            }
+        }
+        return last.plusDays(SLACK_DAYS);
+    }
+
+    /** Available windows from {@code notBefore} to the end of {@code lastDay}, minus busy time. */
+    private Gaps freeGaps(Collection<Task> busy, LocalDateTime notBefore, LocalDate lastDay) {
+        List<long[]> taken = new ArrayList<>(busy.size());
+        for (Task t : busy) {
+            if (t.getStartTime() == null) continue;
+            long s = TaskSchema.epochSecond(t.getStartTime());
+            taken.add(new long[] { s, s + durationOf(t).getSeconds() });
+        }
+        taken.sort(Comparator.comparingLong(iv -> iv[0]));
+
+        Gaps gaps = new Gaps();
+        long earliest = TaskSchema.epochSecond(notBefore);
+        int next = 0;
+        for (LocalDate d = notBefore.toLocalDate(); !d.isAfter(lastDay); d = d.plusDays(1)) {
+            if (!days.contains(d.getDayOfWeek())) continue;
+            long windowStart = Math.max(TaskSchema.epochSecond(d.atTime(dayStart)), earliest);
+            long windowEnd = TaskSchema.epochSecond(d.atTime(dayEnd));
+            if (windowStart >= windowEnd) continue;
+
+            // Busy intervals are in start order, so the sweep only moves forward
+            while (next < taken.size() && taken.get(next)[1] <= windowStart) next++;
+            long cursor = windowStart;
+            for (int i = next; i < taken.size() && taken.get(i)[0] < windowEnd; i++) {
+                if (taken.get(i)[0] > cursor) gaps.add(cursor, taken.get(i)[0]);
+                cursor = Math.max(cursor, taken.get(i)[1]);
+            }
+            if (cursor < windowEnd) gaps.add(cursor, windowEnd);
+        }
+        gaps.index();
+        return gaps;
+    }
+
+    /**
+     * Free gaps in start order, added by the sweep and then indexed. A max-tree
+     * over their lengths, one leaf per gap, leads straight to the first gap
+     * long enough for a task.
+     */
+    private static final class Gaps {
+        private long[] starts = new long[64];
+        private long[] ends = new long[64];
+        private int count;
+        private int leaves;
+        private long[] longest;
+
+        void add(long start, long end) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = end;
+            count++;
+        }
+
+        /** Builds the tree once every gap has been added. */
+        void index() {
+            leaves = Integer.highestOneBit(Math.max(1, count - 1)) << 1;
+            longest = new long[2 * leaves];
+            for (int i = 0; i < count; i++) longest[leaves + i] = ends[i] - starts[i];
+            for (int node = leaves - 1; node > 0; node--) {
+                longest[node] = Math.max(longest[2 * node], longest[2 * node + 1]);
+            }
+        }
+
+        /** Cuts {@code seconds} from the start of the first gap that fits; -1 if none does. */
+        long take(long seconds) {
+            if (count == 0 || longest[1] < seconds) return -1;
+            int node = 1;
+            while (node < leaves) node = longest[2 * node] >= seconds ? 2 * node : 2 * node + 1;
+            int i = node - leaves;
+            long start = starts[i];
+            starts[i] += seconds;
+            longest[node] = ends[i] - starts[i];
+            for (node /= 2; node > 0; node /= 2) {
+                longest[node] = Math.max(longest[2 * node], longest[2 * node + 1]);
+            }
+            return start;
+        }
+    }
+}
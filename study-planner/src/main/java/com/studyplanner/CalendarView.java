@@ -0,0 +1,147 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javafx.css.PseudoClass;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.RowConstraints;
+
+/**
+ * Month grid with a fixed set of 42 day cells (six weeks) under a row of
+ * weekday headers.
+ *
+ * The headers, cells and constraints are built once. Showing another month
+ * only rebinds each cell's date, text and pseudo-class states, so paging
+ * through months adds and removes no nodes and costs one layout pass.
+ * Cells outside the month are hidden but keep their place. Colours live in
+ * calendar.css, keyed by the {@code today}, {@code has-tasks} and load
+ * pseudo-classes.
+ */
+class CalendarView {
+
+    static final int WEEKS = 6;
+    static final int CELLS = WEEKS * 7;
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+
+    private static final PseudoClass TODAY = PseudoClass.getPseudoClass("today");
+    private static final PseudoClass HAS_TASKS = PseudoClass.getPseudoClass("has-tasks");
+    private static final PseudoClass LIGHT = PseudoClass.getPseudoClass("light");
+    private static final PseudoClass MEDIUM = PseudoClass.getPseudoClass("medium");
+    private static final PseudoClass HEAVY = PseudoClass.getPseudoClass("heavy");
+
+    private final GridPane grid = new GridPane();
+    private final Button[] cells = new Button[CELLS];
+    private final LocalDate[] dates = new LocalDate[CELLS];
+    private final Function<LocalDate, WorkloadIndex.Totals> load;
+    private YearMonth month;
+
+    /** Cells show {@code load} for their day and call {@code onDay} when clicked. */
+    CalendarView(Function<LocalDate, WorkloadIndex.Totals> load, Consumer<LocalDate> onDay) {
+        this.load = load;
+        grid.getStyleClass().add("calendar");
+        grid.getStylesheets().add(CalendarView.class.getResource("calendar.css").toExternalForm());
+        grid.setHgap(5);
+        grid.setVgap(5);
+
+        for (int i = 0; i < 7; i++) {
+            ColumnConstraints cc = new ColumnConstraints();
+            cc.setPercentWidth(100.0 / 7);
+            cc.setHgrow(Priority.ALWAYS);
+            grid.getColumnConstraints().add(cc);
+        }
+        for (int i = 0; i <= WEEKS; i++) {
+            RowConstraints rc = new RowConstraints();
+            rc.setPercentHeight(100.0 / (WEEKS + 1));
+            rc.setVgrow(Priority.ALWAYS);
+            grid.getRowConstraints().add(rc);
+        }
+
+        for (int i = 0; i < 7; i++) {
+            Label header = new Label(DAY_NAMES[i]);
+            header.getStyleClass().add("calendar-header");
+            header.setAlignment(Pos.CENTER);
+            header.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+            grid.add(header, i, 0);
+        }
+        for (int i = 0; i < CELLS; i++) {
+            Button cell = new Button();
+            cell.getStyleClass().add("calendar-cell");
+            cell.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+            cell.setPrefSize(Double.MAX_VALUE, Double.MAX_VALUE);
+            int index = i;
+            cell.setOnAction(e -> onDay.accept(dates[index]));
+            cells[i] = cell;
+            grid.add(cell, i % 7, 1 + i / 7);
+        }
+    }
+
+    GridPane node() {
+        return grid;
+    }
+
+    /** Shows {@code month}, rebinding every cell. */
+    void show(YearMonth month) {
+        this.month = month;
+        LocalDate first = firstCell(month);
+        for (int i = 0; i < CELLS; i++) {
+            LocalDate date = first.plusDays(i);
+            dates[i] = date;
+            cells[i].setVisible(date.getMonth() == month.getMonth());
+        }
+        refresh();
+    }
+
+    /** Rebinds the current month's cells to the latest workload, e.g. after tasks change. */
+    void refresh() {
+        if (month == null) return;
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < CELLS; i++) {
+            Button cell = cells[i];
+            if (!cell.isVisible()) continue;
+            LocalDate date = dates[i];
+            WorkloadIndex.Totals totals = load.apply(date);
+            cell.setText(label(date, totals));
+            String level = loadLevel(totals);
+            cell.pseudoClassStateChanged(TODAY, date.equals(today));
+            cell.pseudoClassStateChanged(HAS_TASKS, totals.tasks() > 0);
+            cell.pseudoClassStateChanged(LIGHT, "light".equals(level));
+            cell.pseudoClassStateChanged(MEDIUM, "medium".equals(level));
+            cell.pseudoClassStateChanged(HEAVY, "heavy".equals(level));
+        }
+    }
+
+    /** The date in the top-left cell: the Monday on or before the 1st of {@code month}. */
+    static LocalDate firstCell(YearMonth month) {
+        LocalDate first = month.atDay(1);
+        return first.minusDays(first.getDayOfWeek().getValue() - 1);
+    }
+
+    /** Day number, plus a task count and planned time on days that have tasks. */
+    static String label(LocalDate date, WorkloadIndex.Totals totals) {
+        if (totals.tasks() == 0) return String.valueOf(date.getDayOfMonth());
+        Duration planned = totals.duration();
+        String time = planned.toHours() > 0
+            ? planned.toHours() + "h" + (planned.toMinutesPart() > 0 ? String.format("%02d", planned.toMinutesPart()) : "")
+            : planned.toMinutes() + "m";
+        return date.getDayOfMonth() + "\n" + totals.tasks() + (totals.tasks() == 1 ? " task · " : " tasks · ") + time;
+    }
+
+    /** Load level for a day: light up to 2h planned, medium up to 4h, heavy above; null with no tasks. */
+    static String loadLevel(WorkloadIndex.Totals load) {
+        if (load.tasks() == 0) return null;
+        long minutes = load.durationSeconds() / 60;
+        if (minutes <= 120) return "light";
+        if (minutes <= 240) return "medium";
+        return "heavy";
+    }
+}
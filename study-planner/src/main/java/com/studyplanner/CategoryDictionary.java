@@ -0,0 +1,52 @@
+package com.studyplanner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide dictionary of category names. Each distinct name gets a small
+ * int code the first time it is seen, and every task in that category holds
+ * the code instead of its own copy of the string; {@link #nameOf} hands back
+ * the one shared instance.
+ *
+ * Codes are only meaningful inside this process. TaskDB maps them to the ids
+ * of its categories table.
+ */
+final class CategoryDictionary {
+
+    /** Code of a missing (null) category. */
+    static final int NONE = -1;
+
+    private static final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    // Categories are few and read constantly, so copy-on-write suits them
+    private static final List<String> names = new CopyOnWriteArrayList<>();
+
+    private CategoryDictionary() { }
+
+    /** The code for {@code name}, assigning the next one if it is new. */
+    static int codeOf(String name) {
+        if (name == null) return NONE;
+        Integer code = codes.get(name);
+        if (code != null) return code;
+        synchronized (names) {
+            return codes.computeIfAbsent(name, n -> {
+                names.add(n);
+                return names.size() - 1;
+            });
+        }
+    }
+
+    /** The code for {@code name} without assigning one; NONE if it was never seen. */
+    static int find(String name) {
+        if (name == null) return NONE;
+        return codes.getOrDefault(name, NONE);
+    }
+
+    static String nameOf(int code) {
+        return code == NONE ? null : names.get(code);
+    }
+
+    static int size() { return names.size(); }
+}
@@ -0,0 +1,211 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Interval index over the time windows of timer-enabled tasks, used to find
+ * tasks whose {@code [startTime, startTime + duration)} windows overlap.
+ *
+ * The windows sit in a treap ordered by start, where each node also holds
+ * the latest end in its subtree. A search skips every subtree that ends
+ * before the query starts or starts after it ends, so finding the k windows
+ * that overlap one window costs O((k + 1) log n) in expectation instead of a
+ * pass over every task, and inserting, moving or removing a task costs
+ * O(log n).
+ *
+ * Only ongoing tasks with a timer and a start time are indexed; calling
+ * {@link #update} with any other task takes it out. Windows are half-open,
+ * so a task that starts exactly when another ends does not conflict with it.
+ * Methods are synchronized, so the index can be fed from any thread.
+ */
+public final class ConflictIndex {
+
+    /** Two tasks whose windows overlap; {@code first} starts no later than {@code second}. */
+    public record Conflict(Task first, Task second) { }
+
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(30);
+
+    private static final class Node {
+        final Task task;
+        final long start;
+        final long end;
+        final long seq;        // breaks ties between equal starts
+        final int heapKey = ThreadLocalRandom.current().nextInt();
+        long maxEnd;
+        Node left, right;
+
+        Node(Task task, long start, long end, long seq) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.seq = seq;
+            this.maxEnd = end;
+        }
+
+        boolean before(Node other) {
+            return start != other.start ? start < other.start : seq < other.seq;
+        }
+    }
+
+    private Node root;
+    // The node of each indexed task, as inserted, so it can be found after the task changes
+    private final Map<Task, Node> nodes = new HashMap<>();
+    private long nextSeq;
+
+    /**
+     * Indexes {@code t} at its current window, moving it if it was indexed
+     * at another, and returns the other tasks it now overlaps, in start
+     * order. Tasks that should not be indexed are removed instead and have
+     * no conflicts.
+     */
+    public synchronized List<Task> update(Task t) {
+        Node old = nodes.remove(t);
+        if (old != null) root = delete(root, old);
+        if (!indexable(t)) return List.of();
+
+        long start = TaskSchema.epochSecond(t.getStartTime());
+        Duration duration = t.getDuration() == null ? DEFAULT_DURATION : t.getDuration();
+        Node node = new Node(t, start, start + duration.getSeconds(), nextSeq++);
+
+        List<Task> overlapping = new ArrayList<>();
+        collect(root, node.start, node.end, n -> overlapping.add(n.task));
+        root = insert(root, node);
+        nodes.put(t, node);
+        return overlapping;
+    }
+
+    public synchronized void remove(Task t) {
+        Node old = nodes.remove(t);
+        if (old != null) root = delete(root, old);
+    }
+
+    public synchronized boolean contains(Task t) {
+        return nodes.containsKey(t);
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /** Indexed tasks whose window overlaps {@code t}'s, not counting {@code t} itself. */
+    public synchronized List<Task> conflictsWith(Task t) {
+        if (t.getStartTime() == null) return List.of();
+        long start = TaskSchema.epochSecond(t.getStartTime());
+        Duration duration = t.getDuration() == null ? DEFAULT_DURATION : t.getDuration();
+        List<Task> overlapping = new ArrayList<>();
+        collect(root, start, start + duration.getSeconds(), n -> {
+            if (n.task != t) overlapping.add(n.task);
+        });
+        return overlapping;
+    }
+
+    /** Indexed tasks whose window overlaps {@code [from, to)}, in start order. */
+    public synchronized List<Task> overlapping(LocalDateTime from, LocalDateTime to) {
+        List<Task> found = new ArrayList<>();
+        collect(root, TaskSchema.epochSecond(from), TaskSchema.epochSecond(to), n -> found.add(n.task));
+        return found;
+    }
+
+    /**
+     * Every pair of indexed tasks that overlap each other, among those whose
+     * windows touch {@code [from, to)}. The windows in range are found
+     * through the tree, then paired in one sweep in start order.
+     */
+    public synchronized List<Conflict> conflictsBetween(LocalDateTime from, LocalDateTime to) {
+        List<Node> inRange = new ArrayList<>();
+        collect(root, TaskSchema.epochSecond(from), TaskSchema.epochSecond(to), inRange::add);
+
+        List<Conflict> conflicts = new ArrayList<>();
+        PriorityQueue<Node> active = new PriorityQueue<>((a, b) -> Long.compare(a.end, b.end));
+        for (Node n : inRange) {
+            while (!active.isEmpty() && active.peek().end <= n.start) active.poll();
+            for (Node open : active) conflicts.add(new Conflict(open.task, n.task));
+            active.add(n);
+        }
+        return conflicts;
+    }
+
+    private static boolean indexable(Task t) {
+        return t.isTimerEnabled() && !t.isCompleted() && t.getStartTime() != null;
+    }
+
+    private interface Visitor {
+        void visit(Node n);
+    }
+
+    // In-order walk of the windows overlapping [start, end), pruning by maxEnd and start
+    private static void collect(Node n, long start, long end, Visitor visitor) {
+        if (n == null || start >= end || n.maxEnd <= start) return;
+        collect(n.left, start, end, visitor);
+        if (n.start >= end) return;
+        if (n.end > start && n.end > n.start) visitor.visit(n); // empty windows overlap nothing
+        collect(n.right, start, end, visitor);
+    }
+
+    private static Node insert(Node n, Node node) {
+        if (n == null) return node;
+        if (node.before(n)) {
+            n.left = insert(n.left, node);
+            if (n.left.heapKey > n.heapKey) n = rotateRight(n);
+        } else {
+            n.right = insert(n.right, node);
+            if (n.right.heapKey > n.heapKey) n = rotateLeft(n);
+        }
+        fix(n);
+        return n;
+    }
+
+    private static Node delete(Node n, Node node) {
+        if (n == null) return null;
+        if (n == node) {
+            if (n.left == null) return n.right;
+            if (n.right == null) return n.left;
+            // Rotate the higher-keyed child up and keep sinking the node
+            if (n.left.heapKey > n.right.heapKey) {
+                n = rotateRight(n);
+                n.right = delete(n.right, node);
+            } else {
+                n = rotateLeft(n);
+                n.left = delete(n.left, node);
+            }
+        } else if (node.before(n)) {
+            n.left = delete(n.left, node);
+        } else {
+            n.right = delete(n.right, node);
+        }
+        fix(n);
+        return n;
+    }
+
+    private static Node rotateRight(Node n) {
+        Node l = n.left;
+        n.left = l.right;
+        l.right = n;
+        fix(n);
+        fix(l);
+        return l;
+    }
+
+    private static Node rotateLeft(Node n) {
+        Node r = n.right;
+        n.right = r.left;
+        r.left = n;
+        fix(n);
+        fix(r);
+        return r;
+    }
+
+    private static void fix(Node n) {
+        long max = n.end;
+        if (n.left != null) max = Math.max(max, n.left.maxEnd);
+        if (n.right != null) max = Math.max(max, n.right.maxEnd);
+        n.maxEnd = max;
+    }
+}
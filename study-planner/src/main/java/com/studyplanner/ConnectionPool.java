@@ -0,0 +1,293 @@
+package com.studyplanner;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps SQLite connections open for the life of the app instead of reopening
+ * the database file on every call.
+ *
+ * SQLite only allows one writer at a time, so there is a single long-lived
+ * writer connection guarded by a lock, plus a bounded set of reader
+ * connections that are created lazily. Every connection caches its prepared
+ * statements by SQL text. Each borrow hands out a fresh {@link PooledConnection}
+ * lease, so closing a lease twice releases the connection only once.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /** Pragmas applied to every connection unless overridden. */
+    public static final Map<String, String> DEFAULT_PRAGMAS = Map.of(
+        "journal_mode", "WAL",
+        "synchronous", "NORMAL",
+        "busy_timeout", "5000",
+        "foreign_keys", "ON"
+    );
+
+    private final String url;
+    private final Map<String, String> pragmas;
+    private final long borrowTimeoutMillis;
+
+    private final ReentrantLock writerLock = new ReentrantLock(true);
+    private Slot writer;
+
+    private final int maxReaders;
+    private final BlockingQueue<Slot> idleReaders;
+    private final List<Slot> allReaders = new ArrayList<>();
+
+    // Metrics
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, int maxReaders, Map<String, String> pragmas) {
+        this(url, maxReaders, pragmas, 30_000);
+    }
+
+    public ConnectionPool(String url, int maxReaders, Map<String, String> pragmas, long borrowTimeoutMillis) {
+        if (maxReaders < 1) throw new IllegalArgumentException("maxReaders must be at least 1");
+        this.url = url;
+        this.maxReaders = maxReaders;
+        this.pragmas = new LinkedHashMap<>(pragmas);
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleReaders = new ArrayBlockingQueue<>(maxReaders);
+    }
+
+    /**
+     * Builds the pragma map from {@link #DEFAULT_PRAGMAS}, letting system
+     * properties named {@code studyplanner.pragma.<name>} override or add entries.
+     */
+    public static Map<String, String> pragmasFromSystemProperties() {
+        Map<String, String> result = new LinkedHashMap<>(DEFAULT_PRAGMAS);
+        String prefix = "studyplanner.pragma.";
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                result.put(key.substring(prefix.length()), System.getProperty(key));
+            }
+        }
+        return result;
+    }
+
+    /** Borrows the single writer connection. Close the returned handle to release it. */
+    public PooledConnection writer() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!writerLock.tryLock(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("Timed out waiting for the writer connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted waiting for the writer connection", e);
+        }
+        try {
+            ensureOpen();
+            if (writer == null) writer = open(true);
+        } catch (SQLException | RuntimeException e) {
+            writerLock.unlock();
+            throw e;
+        }
+        recordBorrow(System.nanoTime() - start);
+        return new PooledConnection(writer);
+    }
+
+    /** Borrows a reader connection, opening a new one if the pool is not full yet. */
+    public PooledConnection reader() throws SQLException {
+        ensureOpen();
+        long start = System.nanoTime();
+        Slot slot = idleReaders.poll();
+        if (slot == null) {
+            synchronized (allReaders) {
+                if (allReaders.size() < maxReaders) {
+                    slot = open(false);
+                    allReaders.add(slot);
+                }
+            }
+        }
+        if (slot == null) {
+            try {
+                slot = idleReaders.poll(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted waiting for a reader connection", e);
+            }
+            if (slot == null) throw new SQLException("Timed out waiting for a reader connection");
+        }
+        recordBorrow(System.nanoTime() - start);
+        return new PooledConnection(slot);
+    }
+
+    private Slot open(boolean isWriter) throws SQLException {
+        Connection conn = DriverManager.getConnection(url);
+        try (Statement st = conn.createStatement()) {
+            for (Map.Entry<String, String> p : pragmas.entrySet()) {
+                st.execute("PRAGMA " + p.getKey() + "=" + p.getValue());
+            }
+        }
+        return new Slot(conn, isWriter);
+    }
+
+    private void recordBorrow(long waited) {
+        borrows.incrementAndGet();
+        waitNanos.addAndGet(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        int now = inUse.incrementAndGet();
+        peakInUse.accumulateAndGet(now, Math::max);
+    }
+
+    private void release(Slot slot) {
+        inUse.decrementAndGet();
+        if (slot.isWriter) {
+            writerLock.unlock();
+        } else if (closed) {
+            slot.closeQuietly();
+        } else {
+            idleReaders.offer(slot);
+        }
+    }
+
+    private void ensureOpen() throws SQLException {
+        if (closed) throw new SQLException("Connection pool is closed");
+    }
+
+    /** Snapshot of pool utilization and wait times. */
+    public Stats stats() {
+        int readersOpen;
+        synchronized (allReaders) {
+            readersOpen = allReaders.size();
+        }
+        return new Stats(
+            borrows.get(), waitNanos.get(), maxWaitNanos.get(),
+            inUse.get(), peakInUse.get(), readersOpen, maxReaders
+        );
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        writerLock.lock();
+        try {
+            if (writer != null) {
+                writer.closeQuietly();
+                writer = null;
+            }
+        } finally {
+            writerLock.unlock();
+        }
+        Slot slot;
+        while ((slot = idleReaders.poll()) != null) {
+            slot.closeQuietly();
+        }
+        synchronized (allReaders) {
+            allReaders.clear();
+        }
+    }
+
+    public record Stats(long borrows, long totalWaitNanos, long maxWaitNanos,
+                        int inUse, int peakInUse, int readersOpen, int maxReaders) {
+
+        public double averageWaitMillis() {
+            return borrows == 0 ? 0 : totalWaitNanos / 1_000_000.0 / borrows;
+        }
+
+        /** Fraction of all connections (readers plus the writer) currently borrowed. */
+        public double utilization() {
+            return (double) inUse / (maxReaders + 1);
+        }
+    }
+
+    /**
+     * One borrow of a pooled connection. Statements returned by
+     * {@link #prepare} are cached and owned by the pool, so callers must not
+     * close them. Closing the lease returns the connection; closing it again
+     * does nothing, and the lease cannot be used after that.
+     */
+    public final class PooledConnection implements AutoCloseable {
+        private final Slot slot;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledConnection(Slot slot) {
+            this.slot = slot;
+        }
+
+        /** A cached statement for {@code sql} that does not return generated keys. */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            return slot.prepare(checkLeased().statements, sql, Statement.NO_GENERATED_KEYS);
+        }
+
+        /** A cached statement for an INSERT whose generated keys the caller reads. */
+        public PreparedStatement prepareInsert(String sql) throws SQLException {
+            return slot.prepare(checkLeased().insertStatements, sql, Statement.RETURN_GENERATED_KEYS);
+        }
+
+        public Connection connection() {
+            if (released.get()) throw new IllegalStateException("Connection already released");
+            return slot.conn;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) release(slot);
+        }
+
+        private Slot checkLeased() throws SQLException {
+            if (released.get()) throw new SQLException("Connection already released");
+            return slot;
+        }
+    }
+
+    /** An open connection and its statement caches, handed out one lease at a time. */
+    private static final class Slot {
+        private final Connection conn;
+        private final boolean isWriter;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+        private final Map<String, PreparedStatement> insertStatements = new HashMap<>();
+
+        private Slot(Connection conn, boolean isWriter) {
+            this.conn = conn;
+            this.isWriter = isWriter;
+        }
+
+        private PreparedStatement prepare(Map<String, PreparedStatement> cache, String sql, int keys)
+                throws SQLException {
+            PreparedStatement ps = cache.get(sql);
+            if (ps == null) {
+                ps = conn.prepareStatement(sql, keys);
+                cache.put(sql, ps);
+            } else {
+                ps.clearParameters();
+            }
+            return ps;
+        }
+
+        private void closeQuietly() {
+            closeAll(statements);
+            closeAll(insertStatements);
+            try { conn.close(); } catch (SQLException ignore) { }
+        }
+
+        private static void closeAll(Map<String, PreparedStatement> cache) {
+            for (PreparedStatement ps : cache.values()) {
+                try { ps.close(); } catch (SQLException ignore) { }
+            }
+            cache.clear();
+        }
+    }
+}
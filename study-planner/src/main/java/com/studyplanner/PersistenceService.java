@@ -0,0 +1,238 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs TaskDB writes on a dedicated thread so callers, in particular the FX
+ * thread, never wait on the disk.
+ *
+ * Writes run one at a time in submission order, which matches SQLite's
+ * single writer. Each call returns a future that completes on the
+ * persistence thread; callers that touch the UI should continue on the FX
+ * thread.
+ *
+ * Updates are written behind: repeated updates to the same task are
+ * coalesced into one pending write, and pending writes are flushed together
+ * in one transaction once {@code maxPendingUpdates} tasks are waiting or
+ * {@code maxUpdateDelay} has passed since the first one, whichever comes
+ * first. At most {@code maxUpdateDelay} of edits can be lost if the process
+ * dies; {@link #close()} flushes everything.
+ *
+ * Write listeners see every task passed to {@link #save} or {@link #update},
+ * on the caller's thread before the write is queued, so in-memory indexes
+ * over saved fields stay in step with what is written.
+ */
+public class PersistenceService implements AutoCloseable {
+
+    static final int DEFAULT_MAX_PENDING_UPDATES =
+        Integer.getInteger("studyplanner.writeBehind.maxPending", 64);
+    static final Duration DEFAULT_MAX_UPDATE_DELAY =
+        Duration.ofMillis(Long.getLong("studyplanner.writeBehind.maxDelayMillis", 2000));
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "task-persistence");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Reads run separately so they never queue behind writes
+    private final ExecutorService readers = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "task-query");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final ScheduledExecutorService flushTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "task-flush-timer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final int maxPendingUpdates;
+    private final Duration maxUpdateDelay;
+
+    // Write-behind state, guarded by "this"
+    private Map<Task, PendingUpdate> pendingUpdates = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    // Metrics
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    private final List<Consumer<Task>> writeListeners = new CopyOnWriteArrayList<>();
+
+    private record PendingUpdate(CompletableFuture<Task> future, long enqueuedNanos) { }
+
+    public PersistenceService() {
+        this(DEFAULT_MAX_PENDING_UPDATES, DEFAULT_MAX_UPDATE_DELAY);
+    }
+
+    /**
+     * @param maxPendingUpdates flush once this many distinct tasks are waiting
+     * @param maxUpdateDelay    flush at the latest this long after the first
+     *                          pending update; zero writes every update through
+     */
+    public PersistenceService(int maxPendingUpdates, Duration maxUpdateDelay) {
+        if (maxPendingUpdates < 1) throw new IllegalArgumentException("maxPendingUpdates must be positive");
+        this.maxPendingUpdates = maxPendingUpdates;
+        this.maxUpdateDelay = maxUpdateDelay;
+    }
+
+    /** Calls {@code listener} with each task about to be saved or updated. */
+    public void addWriteListener(Consumer<Task> listener) {
+        writeListeners.add(listener);
+    }
+
+    /** Inserts {@code t}; the future yields the task with its new id. */
+    public CompletableFuture<Task> save(Task t) {
+        if (t == null) throw new IllegalArgumentException("Task cannot be null");
+        writeListeners.forEach(l -> l.accept(t));
+        long enqueued = System.nanoTime();
+        queueDepth.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                TaskDB.saveTaskToDB(t);
+                recordDone(enqueued, true);
+                return t;
+            } catch (RuntimeException e) {
+                recordDone(enqueued, false);
+                throw e;
+            }
+        }, executor);
+    }
+
+    /**
+     * Queues an update of {@code t}. The future completes once the flush
+     * that writes it has committed. If {@code t} already has an update
+     * pending, the two are merged and the same future is returned.
+     */
+    public CompletableFuture<Task> update(Task t) {
+        if (t == null) throw new IllegalArgumentException("Task cannot be null");
+        // Outside the lock, so a listener never holds up other writers
+        writeListeners.forEach(l -> l.accept(t));
+        return enqueueUpdate(t);
+    }
+
+    private synchronized CompletableFuture<Task> enqueueUpdate(Task t) {
+        PendingUpdate pending = pendingUpdates.get(t);
+        if (pending != null) {
+            coalesced.incrementAndGet();
+            return pending.future();
+        }
+        pending = new PendingUpdate(new CompletableFuture<>(), System.nanoTime());
+        pendingUpdates.put(t, pending);
+        queueDepth.incrementAndGet();
+
+        if (pendingUpdates.size() >= maxPendingUpdates || maxUpdateDelay.isZero()) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = flushTimer.schedule(this::flush, maxUpdateDelay.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return pending.future();
+    }
+
+    /**
+     * Writes all pending updates in one transaction, after any saves already
+     * queued, so updates to a just-added task see its id.
+     */
+    public synchronized CompletableFuture<Void> flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (pendingUpdates.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        Map<Task, PendingUpdate> batch = pendingUpdates;
+        pendingUpdates = new LinkedHashMap<>();
+        return CompletableFuture.runAsync(() -> writeBatch(batch), executor);
+    }
+
+    private void writeBatch(Map<Task, PendingUpdate> batch) {
+        List<Task> tasks = new ArrayList<>(batch.keySet());
+        try {
+            TaskDB.updateAll(tasks);
+        } catch (RuntimeException e) {
+            batch.values().forEach(p -> {
+                recordDone(p.enqueuedNanos(), false);
+                p.future().completeExceptionally(e);
+            });
+            return;
+        } finally {
+            flushes.incrementAndGet();
+        }
+        batch.forEach((task, p) -> {
+            recordDone(p.enqueuedNanos(), true);
+            p.future().complete(task);
+        });
+    }
+
+    private void recordDone(long enqueuedNanos, boolean success) {
+        (success ? completed : failed).incrementAndGet();
+        long latency = System.nanoTime() - enqueuedNanos;
+        totalLatencyNanos.addAndGet(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+        queueDepth.decrementAndGet();
+    }
+
+    /** Runs a read-only TaskDB call off the calling thread. */
+    public <T> CompletableFuture<T> query(Supplier<T> read) {
+        return CompletableFuture.supplyAsync(read, readers);
+    }
+
+    public Stats stats() {
+        return new Stats(queueDepth.get(), completed.get(), failed.get(),
+            totalLatencyNanos.get(), maxLatencyNanos.get(), coalesced.get(), flushes.get());
+    }
+
+    /** Flushes pending updates, finishes every queued write, then stops the worker threads. */
+    @Override
+    public void close() {
+        flush();
+        flushTimer.shutdownNow();
+        readers.shutdownNow();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Latency is measured from submission to completion, so it includes time
+     * spent queued; a coalesced update counts from its first submission.
+     */
+    public record Stats(int queueDepth, long completed, long failed,
+                        long totalLatencyNanos, long maxLatencyNanos,
+                        long coalesced, long flushes) {
+
+        public double averageLatencyMillis() {
+            long done = completed + failed;
+            return done == 0 ? 0 : totalLatencyNanos / 1_000_000.0 / done;
+        }
+
+        public double maxLatencyMillis() {
+            return maxLatencyNanos / 1_000_000.0;
+        }
+    }
+}
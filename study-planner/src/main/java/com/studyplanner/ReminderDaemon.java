@@ -0,0 +1,132 @@
+package com.studyplanner;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.sqlite.SQLiteConfig;
+
+/**
+ * Command-line daemon that delivers task start reminders from a tasks.db
+ * without any UI, printing one line per reminder.
+ *
+ * <pre>
+ *   ReminderDaemon path/to/tasks.db [pollSeconds]
+ * </pre>
+ *
+ * The database is opened read-only and re-read every {@code pollSeconds}
+ * (60 by default), so tasks added or moved by the planner are picked up
+ * while it runs; it must already be at the current schema, which the
+ * planner migrates to. Only the id, title, start and duration of ongoing
+ * timer-enabled tasks are read, and reminders are keyed by task id, so a
+ * start that was already delivered is not delivered again by a later poll.
+ *
+ * Starts that passed before the daemon started are caught up as the app
+ * does, through {@link TimerRecovery}: the first poll acknowledges them
+ * and prints one summary of the missed ones instead of a line for each.
+ */
+public final class ReminderDaemon {
+
+    private static final String DUE_SQL =
+        "SELECT id, title, startTime, durationSeconds FROM tasks"
+            + " WHERE timerEnabled = 1 AND completed = 0 AND startTime IS NOT NULL";
+
+    private final ReminderEngine<Long> engine;
+    private final Map<Long, String> titles = new ConcurrentHashMap<>();
+    private Set<Long> known = new HashSet<>();
+    private boolean caughtUp;
+
+    public ReminderDaemon(ReminderEngine<Long> engine) {
+        this.engine = engine;
+        engine.addSink(batch -> batch.forEach(r -> System.out.printf("%s  %s (due %s)%n",
+            r.delivered(), titles.getOrDefault(r.subject(), "#" + r.subject()), r.due())));
+    }
+
+    /** Brings the engine in line with the tasks in {@code conn}; returns how many reminders it holds. */
+    public int poll(Connection conn) throws SQLException {
+        Map<Long, LocalDateTime> starts = new HashMap<>();
+        List<Task> timers = new ArrayList<>();
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(DUE_SQL)) {
+            while (rs.next()) {
+                long id = rs.getLong(1);
+                LocalDateTime start = TaskSchema.dateTime(rs.getLong(3));
+                titles.put(id, rs.getString(2));
+                starts.put(id, start);
+                if (!caughtUp) timers.add(timer(id, rs.getString(2), start, rs.getLong(4)));
+            }
+        }
+        if (!caughtUp) {
+            catchUp(timers);
+            caughtUp = true;
+        }
+        for (Map.Entry<Long, LocalDateTime> e : starts.entrySet()) {
+            engine.schedule(e.getKey(), TaskTimerScheduler.instant(e.getValue(), engine.clock()));
+        }
+        for (Long gone : known) {
+            if (!starts.containsKey(gone)) {
+                engine.cancel(gone);
+                titles.remove(gone);
+            }
+        }
+        known = starts.keySet();
+        return starts.size();
+    }
+
+    /** Acknowledges the starts already past, so they are not all delivered at once. */
+    private void catchUp(List<Task> timers) {
+        TimerRecovery.Plan plan = TimerRecovery.plan(timers, LocalDateTime.now(engine.clock()));
+        for (Task t : plan.missed()) acknowledge(t);
+        for (TimerRecovery.Running r : plan.running()) acknowledge(r.task());
+        if (!plan.missed().isEmpty()) System.out.println(plan.missedSummary());
+    }
+
+    private void acknowledge(Task t) {
+        engine.acknowledge(t.getId(), TaskTimerScheduler.instant(t.getStartTime(), engine.clock()));
+    }
+
+    private static Task timer(long id, String title, LocalDateTime start, long durationSeconds) {
+        Task t = new Task(title, start.toLocalDate());
+        t.setId(id);
+        t.setStartTime(start);
+        t.setDuration(Duration.ofSeconds(durationSeconds));
+        t.setTimerEnabled(true);
+        return t;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: ReminderDaemon <tasks.db> [pollSeconds]");
+            System.exit(2);
+        }
+        long pollMillis = (args.length == 2 ? Long.parseLong(args[1]) : 60) * 1000;
+        SQLiteConfig readOnly = new SQLiteConfig();
+        readOnly.setReadOnly(true);
+        try (ReminderEngine<Long> engine = new ReminderEngine<>(Clock.systemDefaultZone());
+             Connection conn = DriverManager.getConnection("jdbc:sqlite:" + args[0], readOnly.toProperties())) {
+            // The planner owns the schema; this process only reads
+            if (SchemaMigrator.readUserVersion(conn) < TaskSchema.MIGRATIONS.latestVersion()) {
+                System.err.println(args[0] + " is at an older schema; open it with the planner once first");
+                System.exit(2);
+            }
+            ReminderDaemon daemon = new ReminderDaemon(engine);
+            System.out.println("Watching " + daemon.poll(conn) + " timers in " + args[0]);
+            engine.start();
+            while (true) {
+                Thread.sleep(pollMillis);
+                daemon.poll(conn);
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.studyplanner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Headless reminder engine: holds one pending reminder per subject and
+ * delivers each to every subscribed {@link Sink} once it is due. Nothing
+ * here touches JavaFX; the UI is just one sink.
+ *
+ * The clock is pluggable. {@link #start()} runs a driver on a virtual
+ * thread that sleeps until the earliest reminder is due; tests instead
+ * move a simulated clock and call {@link #fireDue()}, which delivers
+ * everything due at that instant and nothing else, so they are fully
+ * deterministic.
+ *
+ * Pending reminders sit in a priority queue by due time (O(log n) to add),
+ * and a cancelled or moved reminder is only marked dead until it reaches the
+ * head. A reminder that has been delivered is remembered, so scheduling the
+ * same subject at the same time again does not repeat it, but only until it
+ * is {@link #RETENTION} behind the clock: then it is forgotten, and a
+ * reminder due that long ago is refused rather than delivered. Memory so
+ * follows the reminders of the last day, not every one ever delivered.
+ *
+ * Each batch of due reminders is handed to each sink in due order, on the
+ * delivery executor: by default a new virtual thread per sink and batch, so
+ * a slow sink never holds up the engine or other sinks.
+ */
+public final class ReminderEngine<T> implements AutoCloseable {
+
+    /** A reminder for {@code subject}, due at {@code due} and delivered at {@code delivered}. */
+    public record Reminder<T>(T subject, Instant due, Instant delivered) {
+        public Duration lateness() { return Duration.between(due, delivered); }
+    }
+
+    /** Receives reminders; may be called from any thread. */
+    @FunctionalInterface
+    public interface Sink<T> {
+        void deliver(List<Reminder<T>> batch);
+    }
+
+    /** How long a delivered reminder is remembered, and how stale a reminder may be and still be scheduled. */
+    public static final Duration RETENTION = Duration.ofDays(1);
+
+    private static final class Entry<T> {
+        final T subject;
+        final long dueMillis;
+        final long seq;
+        boolean cancelled;
+        boolean delivered;
+
+        Entry(T subject, long dueMillis, long seq) {
+            this.subject = subject;
+            this.dueMillis = dueMillis;
+            this.seq = seq;
+        }
+    }
+
+    private final Clock clock;
+    private final Executor delivery;
+    private final ExecutorService ownedDelivery;
+    private final List<Sink<T>> sinks = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // Guarded by lock
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>((a, b) ->
+        a.dueMillis != b.dueMillis ? Long.compare(a.dueMillis, b.dueMillis) : Long.compare(a.seq, b.seq));
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    // Delivered and acknowledged entries by due time, forgotten once older than the retention
+    private final PriorityQueue<Entry<T>> settled = new PriorityQueue<>((a, b) -> Long.compare(a.dueMillis, b.dueMillis));
+    private final long retentionMillis;
+    private long nextSeq;
+    private int pending;
+    private boolean closed;
+    private Thread driver;
+
+    /** Uses {@code clock} and delivers on virtual threads. */
+    public ReminderEngine(Clock clock) {
+        this.clock = clock;
+        this.ownedDelivery = Executors.newVirtualThreadPerTaskExecutor();
+        this.delivery = ownedDelivery;
+        this.retentionMillis = RETENTION.toMillis();
+    }
+
+    /** Uses {@code clock} and delivers on {@code delivery}; pass {@code Runnable::run} to deliver inline. */
+    public ReminderEngine(Clock clock, Executor delivery) {
+        this(clock, delivery, RETENTION);
+    }
+
+    /** As above, remembering delivered reminders for {@code retention} instead of {@link #RETENTION}. */
+    ReminderEngine(Clock clock, Executor delivery, Duration retention) {
+        this.clock = clock;
+        this.ownedDelivery = null;
+        this.delivery = delivery;
+        this.retentionMillis = retention.toMillis();
+    }
+
+    public void addSink(Sink<T> sink) { sinks.add(sink); }
+    public void removeSink(Sink<T> sink) { sinks.remove(sink); }
+
+    public Clock clock() { return clock; }
+
+    /**
+     * Reminds about {@code subject} at {@code due}, replacing any reminder it
+     * had. Returns false, changing nothing, if that exact reminder is already
+     * pending or was already delivered. A {@code due} more than the retention
+     * behind the clock counts as delivered long ago: any reminder the subject
+     * had is dropped and false is returned.
+     */
+    public boolean schedule(T subject, Instant due) {
+        long dueMillis = due.toEpochMilli();
+        lock.lock();
+        try {
+            if (closed) return false;
+            long horizon = forgetSettled(clock.millis());
+            Entry<T> old = entries.get(subject);
+            if (old != null && old.dueMillis == dueMillis) return false;
+            if (dueMillis < horizon) {
+                if (old != null) kill(entries.remove(subject));
+                return false;
+            }
+            if (old != null) kill(old);
+            Entry<T> e = new Entry<>(subject, dueMillis, nextSeq++);
+            entries.put(subject, e);
+            queue.add(e);
+            pending++;
+            // Only a new earliest reminder changes how long the driver sleeps
+            if (queue.peek() == e) changed.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records {@code subject}'s reminder at {@code due} as already delivered,
+     * without delivering it, replacing any reminder it had; scheduling the
+     * same reminder later is then a no-op. Used when the caller has dealt
+     * with a reminder some other way, e.g. on catch-up after a restart.
+     */
+    public void acknowledge(T subject, Instant due) {
+        lock.lock();
+        try {
+            if (closed) return;
+            Entry<T> old = entries.get(subject);
+            if (old != null) kill(old);
+            Entry<T> e = new Entry<>(subject, due.toEpochMilli(), nextSeq++);
+            e.delivered = true;
+            entries.put(subject, e);
+            settled.add(e);
+            forgetSettled(clock.millis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Drops {@code subject}'s reminder, pending or delivered. */
+    public void cancel(T subject) {
+        lock.lock();
+        try {
+            Entry<T> old = entries.remove(subject);
+            if (old != null) kill(old);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void kill(Entry<T> e) {
+        if (!e.cancelled && !e.delivered) pending--;
+        e.cancelled = true;
+    }
+
+    /**
+     * Forgets delivered reminders more than the retention behind {@code now},
+     * unless the subject has been given a newer one since; returns the
+     * oldest due time still remembered.
+     */
+    private long forgetSettled(long now) {
+        long horizon = now - retentionMillis;
+        Entry<T> oldest;
+        while ((oldest = settled.peek()) != null && oldest.dueMillis < horizon) {
+            settled.poll();
+            entries.remove(oldest.subject, oldest);
+        }
+        return horizon;
+    }
+
+    /** Subjects with a pending or remembered reminder. */
+    int remembered() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Reminders still waiting to be delivered. */
+    public int pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** When the next reminder is due, or null if none is pending. */
+    public Instant nextDue() {
+        lock.lock();
+        try {
+            Entry<T> head = liveHead();
+            return head == null ? null : Instant.ofEpochMilli(head.dueMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Delivers every reminder due by the clock's current instant; returns how many. */
+    public int fireDue() {
+        List<Reminder<T>> batch;
+        lock.lock();
+        try {
+            batch = takeDue(clock.millis());
+        } finally {
+            lock.unlock();
+        }
+        deliver(batch);
+        return batch.size();
+    }
+
+    private Entry<T> liveHead() {
+        Entry<T> head;
+        while ((head = queue.peek()) != null && head.cancelled) queue.poll();
+        return head;
+    }
+
+    private List<Reminder<T>> takeDue(long now) {
+        List<Reminder<T>> batch = new ArrayList<>();
+        Instant delivered = Instant.ofEpochMilli(now);
+        Entry<T> head;
+        while ((head = liveHead()) != null && head.dueMillis <= now) {
+            queue.poll();
+            head.delivered = true;
+            pending--;
+            settled.add(head);
+            batch.add(new Reminder<>(head.subject, Instant.ofEpochMilli(head.dueMillis), delivered));
+        }
+        forgetSettled(now);
+        return batch;
+    }
+
+    private void deliver(List<Reminder<T>> batch) {
+        if (batch.isEmpty()) return;
+        List<Reminder<T>> readOnly = List.copyOf(batch);
+        for (Sink<T> sink : sinks) delivery.execute(() -> sink.deliver(readOnly));
+    }
+
+    /** Starts delivering in real time on a virtual thread. */
+    public void start() {
+        lock.lock();
+        try {
+            if (driver != null || closed) return;
+            driver = Thread.ofVirtual().name("reminder-driver").start(this::drive);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drive() {
+        while (true) {
+            List<Reminder<T>> batch;
+            lock.lock();
+            try {
+                if (closed) return;
+                Entry<T> head = liveHead();
+                long wait = head == null ? Long.MAX_VALUE : head.dueMillis - clock.millis();
+                if (wait > 0) {
+                    if (head == null) changed.await(); else changed.await(wait, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                batch = takeDue(clock.millis());
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            deliver(batch);
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            queue.clear();
+            entries.clear();
+            settled.clear();
+            pending = 0;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (ownedDelivery != null) ownedDelivery.shutdown();
+    }
+}
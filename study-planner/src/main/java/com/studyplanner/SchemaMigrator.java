@@ -0,0 +1,174 @@
+package com.studyplanner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies ordered schema migrations to a SQLite database, tracking progress
+ * in {@code PRAGMA user_version}.
+ *
+ * Each migration runs in its own transaction together with the version bump,
+ * so a failed step leaves the database at the previous version. A database
+ * that is already current costs a single pragma read.
+ */
+public class SchemaMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    @FunctionalInterface
+    public interface Step {
+        void apply(Connection conn) throws SQLException;
+    }
+
+    /**
+     * One schema change. {@code down} undoes it and may be null when the
+     * change cannot be reversed.
+     */
+    public record Migration(int version, String description, Step up, Step down) {
+        public Migration(int version, String description, Step up) {
+            this(version, description, up, null);
+        }
+    }
+
+    /** How long one migration took to apply. */
+    public record Timing(int version, String description, long nanos) {
+        public double millis() {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(List<Migration> migrations) {
+        List<Migration> sorted = new ArrayList<>(migrations);
+        sorted.sort(Comparator.comparingInt(Migration::version));
+        for (int i = 0; i < sorted.size(); i++) {
+            int version = sorted.get(i).version();
+            if (version < 1) {
+                throw new IllegalArgumentException("Migration versions must be positive: " + version);
+            }
+            if (i > 0 && sorted.get(i - 1).version() == version) {
+                throw new IllegalArgumentException("Duplicate migration version " + version);
+            }
+        }
+        this.migrations = List.copyOf(sorted);
+    }
+
+    public int latestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version();
+    }
+
+    /**
+     * Brings the database up to {@link #latestVersion()}.
+     *
+     * @return one timing entry per migration applied; empty if already current
+     */
+    public List<Timing> migrate(Connection conn) throws SQLException {
+        int current = readUserVersion(conn);
+        if (current >= latestVersion()) {
+            if (current > latestVersion()) {
+                log.warn("Database schema version {} is newer than this build ({})", current, latestVersion());
+            }
+            return List.of();
+        }
+        return migrateFrom(conn, current, latestVersion());
+    }
+
+    /**
+     * Moves the database to {@code target}, applying {@code up} steps when it
+     * is older and {@code down} steps, newest first, when it is newer.
+     *
+     * @return one timing entry per step run
+     */
+    public List<Timing> migrateTo(Connection conn, int target) throws SQLException {
+        if (target < 0 || target > latestVersion()) {
+            throw new IllegalArgumentException("Unknown schema version " + target);
+        }
+        return migrateFrom(conn, readUserVersion(conn), target);
+    }
+
+    private List<Timing> migrateFrom(Connection conn, int current, int target) throws SQLException {
+        List<Timing> report = new ArrayList<>();
+        if (target >= current) {
+            for (Migration m : migrations) {
+                if (m.version() > current && m.version() <= target) {
+                    report.add(run(conn, m, m.up(), m.version()));
+                }
+            }
+        } else {
+            for (int i = migrations.size() - 1; i >= 0; i--) {
+                Migration m = migrations.get(i);
+                if (m.version() > current || m.version() <= target) continue;
+                if (m.down() == null) {
+                    throw new SQLException("Migration " + m.version() + " (" + m.description() + ") cannot be reverted");
+                }
+                int previous = i > 0 ? migrations.get(i - 1).version() : 0;
+                report.add(run(conn, m, m.down(), previous));
+            }
+        }
+        return report;
+    }
+
+    private Timing run(Connection conn, Migration m, Step step, int resultingVersion) throws SQLException {
+        long start = System.nanoTime();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            step.apply(conn);
+            execute(conn, "PRAGMA user_version = " + resultingVersion);
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw new SQLException("Migration " + m.version() + " (" + m.description() + ") failed", e);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        Timing timing = new Timing(m.version(), m.description(), System.nanoTime() - start);
+        log.info("{} schema migration {} ({}) in {} ms",
+            step == m.up() ? "Applied" : "Reverted",
+            timing.version(), timing.description(), String.format("%.2f", timing.millis()));
+        return timing;
+    }
+
+    public static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement st = conn.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    public static int readUserVersion(Connection conn) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA user_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    public static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(
+                "SELECT 1 FROM sqlite_master WHERE type='table' AND name=?")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    public static boolean hasColumn(Connection conn, String table, String column) throws SQLException {
+        try (Statement st = conn.createStatement();
+             ResultSet rs = st.executeQuery("PRAGMA table_info(" + table + ")")) {
+            while (rs.next()) {
+                if (column.equalsIgnoreCase(rs.getString("name"))) return true;
+            }
+        }
+        return false;
+    }
+}
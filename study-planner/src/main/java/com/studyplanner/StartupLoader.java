@@ -0,0 +1,112 @@
+package com.studyplanner;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads tasks in the background after the window is up.
+ *
+ * The visible month and every ongoing task come first, since those are what
+ * the calendar and task list show. The completed tasks outside that month
+ * are then paged in, so the two phases do not overlap and every task is
+ * delivered once. Each batch goes to {@code sink} on {@code uiExecutor},
+ * normally the FX thread.
+ */
+public class StartupLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupLoader.class);
+
+    static final int PAGE_SIZE = 500;
+
+    private final Consumer<List<Task>> sink;
+    private final Executor uiExecutor;
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "task-history-loader");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final long startNanos;
+    private volatile long firstFrameNanos;
+    private volatile long windowLoadedNanos;
+    private volatile long fullyLoadedNanos;
+
+    public StartupLoader(Consumer<List<Task>> sink, Executor uiExecutor, long startNanos) {
+        this.sink = sink;
+        this.uiExecutor = uiExecutor;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Starts loading. The first future completes once the visible window has
+     * been delivered; the second once all history has.
+     */
+    public Progress start(YearMonth visibleMonth) {
+        LocalDate from = visibleMonth.atDay(1);
+        LocalDate to = visibleMonth.atEndOfMonth();
+        CompletableFuture<Void> window = CompletableFuture.runAsync(() -> {
+            List<Task> first = new ArrayList<>(TaskDB.getTasksBetween(from, to));
+            for (Task t : TaskDB.getOngoingTasks()) {
+                // Ongoing tasks in the month came with it
+                if (t.getDate().isBefore(from) || t.getDate().isAfter(to)) first.add(t);
+            }
+            deliver(first);
+        }, loader).thenRunAsync(() -> windowLoadedNanos = System.nanoTime(), uiExecutor);
+
+        CompletableFuture<Void> all = window.thenRunAsync(() -> {
+            TaskDB.Cursor cursor = TaskDB.Cursor.START;
+            while (cursor != null) {
+                TaskDB.Page page = TaskDB.historyPage(cursor, PAGE_SIZE, from, to);
+                deliver(page.tasks());
+                cursor = page.next();
+            }
+        }, loader).thenRunAsync(() -> {
+            fullyLoadedNanos = System.nanoTime();
+            log.info("Startup: first frame {} ms, visible window {} ms, full history {} ms",
+                millisSinceStart(firstFrameNanos), millisSinceStart(windowLoadedNanos),
+                millisSinceStart(fullyLoadedNanos));
+        }, uiExecutor);
+
+        all.whenComplete((ignored, error) -> {
+            loader.shutdown();
+            if (error != null) log.error("Loading task history failed", error);
+        });
+        return new Progress(window, all);
+    }
+
+    private void deliver(List<Task> tasks) {
+        if (!tasks.isEmpty()) uiExecutor.execute(() -> sink.accept(tasks));
+    }
+
+    /** Call when the first frame has been rendered. */
+    public void markFirstFrame() {
+        if (firstFrameNanos == 0) firstFrameNanos = System.nanoTime();
+    }
+
+    public Metrics metrics() {
+        return new Metrics(
+            millisSinceStart(firstFrameNanos),
+            millisSinceStart(windowLoadedNanos),
+            millisSinceStart(fullyLoadedNanos)
+        );
+    }
+
+    private double millisSinceStart(long nanos) {
+        return nanos == 0 ? -1 : (nanos - startNanos) / 1_000_000.0;
+    }
+
+    public record Progress(CompletableFuture<Void> windowLoaded, CompletableFuture<Void> fullyLoaded) { }
+
+    /** Milliseconds from start to each milestone, or -1 if not reached yet. */
+    public record Metrics(double timeToFirstFrame, double timeToWindowLoad, double timeToFullLoad) { }
+}
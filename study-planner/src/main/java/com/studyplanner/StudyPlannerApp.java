@@ -1,5 +1,6 @@
 package com.studyplanner;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -7,13 +8,15 @@ import java.time.LocalTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -29,36 +32,41 @@ import javafx.scene.control.Spinner;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import javafx.scene.control.TextField;
-import javafx.scene.layout.ColumnConstraints;
-import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Priority;
-import javafx.scene.layout.RowConstraints;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 public class StudyPlannerApp extends Application {
-    public static Map<LocalDate, List<Task>> tasksByDate = new HashMap<>();
+    /** Every task the UI knows about, indexed by date, status, priority and category. */
+    public static final TaskStore tasks = new TaskStore();
+    /** Read-only view of {@link #tasks} by date; add and remove through {@link #tasks}. */
+    public static final Map<LocalDate, List<Task>> tasksByDate = tasks.byDate();
+    /** Per-day, per-week and per-category load of {@link #tasks}, kept current as they change. */
+    public static final WorkloadIndex workload = new WorkloadIndex(tasks);
+
+    /** All TaskDB access from the UI goes through here, off the FX thread. */
+    public static final PersistenceService persistence = new PersistenceService();
+
+    /** Overlapping timer windows, updated with every task saved or updated. */
+    public static final ConflictIndex conflicts = new ConflictIndex();
+
+    /** Where persistence results are handled; the FX thread once the app has started. */
+    static Executor fxExecutor = Runnable::run;
+
+    static {
+        persistence.addWriteListener(t -> {
+            List<Task> clashes = conflicts.update(t);
+            if (!clashes.isEmpty()) fxExecutor.execute(() -> warnConflicts(t, clashes));
+        });
+    }
 
     public static List<Task> getAllOngoingTasks() {
-        List<Task> result = new ArrayList<>();
-        for (List<Task> dayTasks : tasksByDate.values()) {
-            for (Task t : dayTasks) {
-                if (!t.isCompleted()) result.add(t);
-            }
-        }
-        return result;
+        return tasks.ongoing();
     }
 
     public static List<Task> getAllCompletedTasks() {
-        List<Task> result = new ArrayList<>();
-        for (List<Task> dayTasks : tasksByDate.values()) {
-            for (Task t : dayTasks) {
-                if (t.isCompleted()) result.add(t);
-            }
-        }
-        return result;
+        return tasks.completed();
     }
 
     public static boolean addTask(String title,
@@ -67,36 +75,73 @@ public class StudyPlannerApp extends Application {
                                   int complexity) {
         if (title == null || title.isBlank()) return false;
         if (date.isBefore(LocalDate.now())) return false;
-        List<String> valid = List.of("High", "Medium", "Low");
-        if (!valid.contains(priority)) return false;
+        if (!TaskPriority.isLabel(priority)) return false;
 
         Task t = new Task(title, date);
         t.setPriority(priority);
         t.setComplexity(complexity);
-        tasksByDate.computeIfAbsent(date, d -> new ArrayList<>()).add(t);
-        TaskDB.saveTaskToDB(t);
+        tasks.add(t);
+        persistence.save(t).whenCompleteAsync((saved, error) -> {
+            if (error != null) removeTask(t);
+        }, fxExecutor);
         return true;
     }
 
+    /** Drops an optimistically added task whose save failed. */
+    static void removeTask(Task t) {
+        tasks.remove(t);
+        conflicts.remove(t);
+    }
+
+    private static void warnConflicts(Task t, List<Task> clashes) {
+        StringBuilder message = new StringBuilder("\"" + t.getTitle() + "\" overlaps:");
+        for (Task other : clashes) {
+            message.append("\n").append(other.getTitle()).append(" at ").append(other.getStartTime().toLocalTime());
+        }
+        new Alert(Alert.AlertType.WARNING, message.toString()).show();
+    }
+
+    static void showSaveError(String message, Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        new Alert(Alert.AlertType.ERROR, message + "\n" + cause.getMessage()).show();
+    }
+
     /** Returns the delay in seconds between now and the task's startTime. */
     public static long computeDelaySeconds(Task t) {
-        return java.time.Duration.between(LocalDateTime.now(), t.getStartTime()).getSeconds();
+        return TaskTimerScheduler.delaySeconds(t, Clock.systemDefaultZone());
     }
 
     private YearMonth currentYearMonth = YearMonth.now();
     private Label clockLabel = new Label();
     private Label monthLabel = new Label();
-    private GridPane calendarGrid = new GridPane();
+    private final CalendarView calendar = new CalendarView(workload::day, this::showTaskDialog);
+    private final AtomicBoolean calendarRecolorScheduled = new AtomicBoolean();
     private TaskListPage taskListPage;
+    private TaskTimerScheduler timers;
+    private final ActiveTimersView timersView = new ActiveTimersView();
 
     @Override
     public void start(Stage stage) {
-        List<Task> loadedTasks = TaskDB.loadAllTasks();
-        for (Task t : loadedTasks) {
-            tasksByDate.computeIfAbsent(t.getDate(), d -> new ArrayList<>()).add(t);
-        }
-        for (Task t : loadedTasks) {
-            if (t.isTimerEnabled()) scheduleTimer(t);
+        long startNanos = System.nanoTime();
+        fxExecutor = Platform::runLater;
+
+        // One headless engine holds every timer start; store changes keep it
+        // current and the UI is just the sink that opens countdowns
+        ReminderEngine<Task> reminders = new ReminderEngine<>(Clock.systemDefaultZone());
+        reminders.addSink(batch -> fxExecutor.execute(() -> batch.forEach(r -> startCountdown(r.subject()))));
+        timers = new TaskTimerScheduler(reminders);
+        tasks.addListener((t, change) -> {
+            if (change == TaskStore.Change.REMOVED) timers.cancel(t); else timers.update(t);
+            if (change == TaskStore.Change.REMOVED || change == TaskStore.Change.COMPLETED) {
+                fxExecutor.execute(() -> timersView.stop(t));
+            }
+        });
+        tasks.snapshot().ongoing().forEach(timers::update);
+        reminders.start();
+        // -Dstudyplanner.startup=eager loads every task before showing the window
+        boolean eager = "eager".equals(System.getProperty("studyplanner.startup"));
+        if (eager) {
+            addLoadedTasks(TaskDB.loadAllTasks());
         }
 
         taskListPage = new TaskListPage();
@@ -112,64 +157,69 @@ public class StudyPlannerApp extends Application {
         Scene scene = new Scene(root, 900, 600);
         stage.setScene(scene);
         stage.setTitle("Study Planner");
+
+        if (!eager) {
+            StartupLoader loader = new StartupLoader(this::addLoadedTasks, Platform::runLater, startNanos);
+            scene.addPostLayoutPulseListener(new Runnable() {
+                @Override
+                public void run() {
+                    loader.markFirstFrame();
+                    scene.removePostLayoutPulseListener(this);
+                }
+            });
+            loader.start(currentYearMonth);
+        }
         stage.show();
 
         updateClock();
+        // The one tick for the clock and every running countdown
         Timeline clockTimeline = new Timeline(
-            new KeyFrame(javafx.util.Duration.seconds(1), e -> updateClock())
+            new KeyFrame(javafx.util.Duration.seconds(1), e -> {
+                updateClock();
+                timersView.tick();
+            })
         );
         clockTimeline.setCycleCount(Timeline.INDEFINITE);
         clockTimeline.play();
         updateCalendar(currentYearMonth);
+
+        // Any task change may move a day's load; recolor once per batch
+        tasks.addListener((t, change) -> {
+            if (calendarRecolorScheduled.compareAndSet(false, true)) {
+                fxExecutor.execute(() -> {
+                    calendarRecolorScheduled.set(false);
+                    colorCalendar();
+                });
+            }
+        });
     }
 
-    private void scheduleTimer(Task t) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = t.getStartTime();
-        long delaySeconds = Duration.between(now, start).getSeconds();
-
-        if (delaySeconds <= 0) {
-            startCountdown(t);
-        } else {
-            Timeline startTimer = new Timeline(
-                new KeyFrame(javafx.util.Duration.seconds(delaySeconds), e -> startCountdown(t))
-            );
-            startTimer.setCycleCount(1);
-            startTimer.play();
+    private void addLoadedTasks(List<Task> loadedTasks) {
+        // The window is live while history loads, so a row may belong to a
+        // task added or changed since; the store already has that one
+        List<Task> fresh = new ArrayList<>(loadedTasks.size());
+        for (Task t : loadedTasks) {
+            if (!tasks.containsId(t.getId())) fresh.add(t);
+        }
+
+        // Timers whose start passed while closed are caught up here rather
+        // than fired one by one when the store reports them as added
+        TimerRecovery.Plan recovery = TimerRecovery.plan(fresh, LocalDateTime.now());
+        recovery.missed().forEach(timers::acknowledge);
+        recovery.running().forEach(r -> timers.acknowledge(r.task()));
+
+        for (Task t : fresh) {
+            if (tasks.add(t)) conflicts.update(t);
+        }
+
+        for (TimerRecovery.Running r : recovery.running()) timersView.start(r.task(), r.remaining());
+        if (!recovery.missed().isEmpty()) {
+            new Alert(Alert.AlertType.INFORMATION, recovery.missedSummary()).show();
         }
     }
 
     private void startCountdown(Task t) {
-        Duration duration = t.getDuration();
-        final long[] remaining = { duration.getSeconds() };
-
-        Stage popup = new Stage();
-        Label label = new Label();
-        VBox vb = new VBox(10,
-            new Label("Timer for: " + t.getTitle()),
-            label
-        );
-        vb.setPadding(new Insets(20));
-        popup.setScene(new Scene(vb));
-        popup.setTitle("⏱ Timer");
-        popup.show();
-
-        Timeline countdown = new Timeline(
-            new KeyFrame(javafx.util.Duration.seconds(1), evt -> {
-                if (remaining[0] <= 0) {
-                    popup.close();
-                    new Alert(Alert.AlertType.INFORMATION, "Time's up for: " + t.getTitle())
-                        .showAndWait();
-                } else {
-                    long mins = remaining[0] / 60;
-                    long secs = remaining[0] % 60;
-                    label.setText(String.format("%02d:%02d", mins, secs));
-                    remaining[0]--;
-                }
-            })
-        );
-        countdown.setCycleCount((int) duration.getSeconds() + 1);
-        countdown.play();
+        timersView.start(t);
     }
 
     private void updateClock() {
@@ -197,9 +247,9 @@ public class StudyPlannerApp extends Application {
         HBox monthNav = new HBox(10, prev, monthLabel, next);
         monthNav.setAlignment(Pos.CENTER);
 
-        StackPane calendarWrapper = new StackPane(calendarGrid);
+        StackPane calendarWrapper = new StackPane(calendar.node());
         calendarWrapper.setStyle("-fx-padding: 10;");
-        calendarGrid.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
+        calendar.node().setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
         calendarWrapper.setAlignment(Pos.CENTER);
         clockLabel.setStyle("-fx-font-size: 16; -fx-padding: 10;");
         VBox mainLayout = new VBox(16, clockLabel, monthNav, calendarWrapper);
@@ -215,81 +265,17 @@ public class StudyPlannerApp extends Application {
     }
 
     private void updateCalendar(YearMonth yearMonth) {
-        calendarGrid.getChildren().clear();
-        calendarGrid.setHgap(5);
-        calendarGrid.setVgap(5);
-
         monthLabel.setText(
             yearMonth.getMonth().toString().substring(0,1).toUpperCase() +
             yearMonth.getMonth().toString().substring(1).toLowerCase() +
             " " + yearMonth.getYear()
         );
+        calendar.show(yearMonth);
+    }
 
-        calendarGrid.getColumnConstraints().clear();
-        for (int i = 0; i < 7; i++) {
-            ColumnConstraints cc = new ColumnConstraints();
-            cc.setPercentWidth(100.0 / 7);
-            cc.setHgrow(Priority.ALWAYS);
-            calendarGrid.getColumnConstraints().add(cc);
-        }
-
-        calendarGrid.getRowConstraints().clear();
-        LocalDate firstOfMonth = yearMonth.atDay(1);
-        int startCol = firstOfMonth.getDayOfWeek().getValue() - 1;
-        int daysInMonth = yearMonth.lengthOfMonth();
-        int totalCells = startCol + daysInMonth;
-        int totalRows = 1 + (int)Math.ceil(totalCells / 7.0);
-
-        for (int i = 0; i < totalRows; i++) {
-            RowConstraints rc = new RowConstraints();
-            rc.setPercentHeight(100.0 / totalRows);
-            rc.setVgrow(Priority.ALWAYS);
-            calendarGrid.getRowConstraints().add(rc);
-        }
-
-        String[] days = {"Mon","Tue","Wed","Thu","Fri","Sat","Sun"};
-        for (int i = 0; i < days.length; i++) {
-            Label header = new Label(days[i]);
-            header.setStyle("-fx-font-weight: bold; -fx-padding: 5;");
-            header.setAlignment(Pos.CENTER);
-            header.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
-            calendarGrid.add(header, i, 0);
-            GridPane.setHgrow(header, Priority.ALWAYS);
-            GridPane.setVgrow(header, Priority.ALWAYS);
-        }
-
-        int row = 1, col = startCol;
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate cellDate = yearMonth.atDay(day);
-
-            Button cell = new Button(String.valueOf(day));
-            cell.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
-            cell.setPrefSize(Double.MAX_VALUE, Double.MAX_VALUE);
-            cell.setStyle(
-                "-fx-background-color: transparent; " +
-                "-fx-border-color: #ccc; " +
-                "-fx-padding: 2; " +
-                (cellDate.equals(LocalDate.now())
-                    ? "-fx-background-color: #0078d7; -fx-text-fill: white; -fx-font-weight: bold;"
-                    : "")
-            );
-
-            if (tasksByDate.containsKey(cellDate)) {
-                cell.setStyle(cell.getStyle() +
-                    "-fx-border-color: #00c853; -fx-border-width: 2;");
-            }
-
-            cell.setOnAction(e -> showTaskDialog(cellDate));
-
-            calendarGrid.add(cell, col, row);
-            GridPane.setHgrow(cell, Priority.ALWAYS);
-            GridPane.setVgrow(cell, Priority.ALWAYS);
-
-            if (++col == 7) {
-                col = 0;
-                row++;
-            }
-        }
+    /** Rebinds the visible days to their workload; O(1) per cell, no query. */
+    private void colorCalendar() {
+        calendar.refresh();
     }
 
     private void styleNavLabel(Label lbl) {
@@ -304,8 +290,7 @@ public class StudyPlannerApp extends Application {
 
         Label existingLabel = new Label("Existing Tasks:");
         content.getChildren().add(existingLabel);
-        List<Task> list = tasksByDate.getOrDefault(date, new ArrayList<>());
-        for (Task task : list) {
+        for (Task task : tasks.tasksOn(date)) {
             if (!task.isCompleted()) {
                 content.getChildren().add(new Label(task.getTitle()));
             }
@@ -315,9 +300,9 @@ public class StudyPlannerApp extends Application {
         TextField input = new TextField();
         input.setPromptText("Task title");
 
-        ComboBox<String> priorityBox = new ComboBox<>();
-        priorityBox.getItems().addAll("High", "Medium", "Low");
-        priorityBox.setValue("Medium");
+        ComboBox<TaskPriority> priorityBox = new ComboBox<>();
+        priorityBox.getItems().addAll(TaskPriority.values());
+        priorityBox.setValue(TaskPriority.MEDIUM);
 
         Spinner<Integer> complexitySpinner = new Spinner<>(1, 10, 5);
 
@@ -343,13 +328,16 @@ public class StudyPlannerApp extends Application {
                 t.setDuration(Duration.ofMinutes(durationSpinner.getValue()));
                 t.setTimerEnabled(enableTimer.isSelected());
 
-                tasksByDate.computeIfAbsent(date, d -> new ArrayList<>()).add(t);
-                TaskDB.saveTaskToDB(t);
-                if (t.isTimerEnabled()) scheduleTimer(t);
+                tasks.add(t);
+                persistence.save(t).whenCompleteAsync((saved, error) -> {
+                    if (error != null) {
+                        removeTask(t);
+                        showSaveError("Could not save \"" + t.getTitle() + "\".", error);
+                    }
+                    updateCalendar(currentYearMonth);
+                }, fxExecutor);
 
                 dialog.close();
-                updateCalendar(currentYearMonth);
-                taskListPage.refreshTaskLists();
             }
         });
 
@@ -376,8 +364,13 @@ public class StudyPlannerApp extends Application {
         dialog.getDialogPane().setContent(content);
         dialog.getDialogPane().getButtonTypes().add(ButtonType.CLOSE);
         dialog.showAndWait();
+    }
 
-        taskListPage.refreshTaskLists();
+    @Override
+    public void stop() {
+        timers.close();
+        persistence.close();
+        TaskDB.shutdown();
     }
 
     public static void main(String[] args) {
@@ -6,7 +6,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+/**
+ * A study task.
+ *
+ * Every setter holds the task's monitor, as {@link TaskStore} does while it
+ * files the task and tells listeners, so code that synchronizes on a task
+ * sees all of one change or none of it. Getters do not lock: the id is
+ * volatile because the persistence thread assigns it, but any other field
+ * read without the monitor may show a change a moment late.
+ */
 public class Task {
+    private volatile long id; // database id, 0 until the task is stored
     private String title;
     private String description;
     private LocalTime time;
@@ -19,19 +29,25 @@ public class Task {
     private boolean timerEnabled;
 
     // Existing fields
-    private String priority;
+    private TaskPriority priority;
     private int complexity;
-    private String category;
+    private int categoryCode; // see CategoryDictionary
     private String notes;
     private LocalDateTime createdAt;
 
+    // Primitive sort key for the date, which never changes
+    private final long dueEpochDay;
+
+    volatile TaskStore store; // the store indexing this task, told about changes to indexed fields
+
     public Task(String title, LocalDate date) {
         this.title = title;
         this.date = date;
+        this.dueEpochDay = epochDayOf(date);
         this.completed = false;
-        this.priority = "Medium";
+        this.priority = TaskPriority.MEDIUM;
         this.complexity = 5;
-        this.category = "General";
+        this.categoryCode = CategoryDictionary.codeOf("General");
         this.notes = "";
         this.createdAt = LocalDateTime.now();
 
@@ -44,12 +60,21 @@ public class Task {
     public Task(String title, LocalDate date, boolean completed, String priority, int complexity,
                 String category, String notes, LocalDateTime createdAt,
                 LocalDateTime startTime, Duration duration, boolean timerEnabled) {
+        this(title, date, completed, TaskPriority.fromLabel(priority), complexity,
+            CategoryDictionary.codeOf(category), notes, createdAt, startTime, duration, timerEnabled);
+    }
+
+    /** Takes the priority and category code as stored, so rows map without parsing strings. */
+    Task(String title, LocalDate date, boolean completed, TaskPriority priority, int complexity,
+         int categoryCode, String notes, LocalDateTime createdAt,
+         LocalDateTime startTime, Duration duration, boolean timerEnabled) {
         this.title = title;
         this.date = date;
+        this.dueEpochDay = epochDayOf(date);
         this.completed = completed;
         this.priority = priority;
         this.complexity = complexity;
-        this.category = category;
+        this.categoryCode = categoryCode;
         this.notes = notes;
         this.createdAt = createdAt;
         this.startTime = startTime;
@@ -60,41 +85,98 @@ public class Task {
     public Task(String description, LocalDate date, LocalTime time, boolean completed) {
         this.description = description;
         this.date = date;
+        this.dueEpochDay = epochDayOf(date);
+        this.categoryCode = CategoryDictionary.NONE;
         this.time = time;
         this.completed = completed;
     }
 
     // Getters/setters for all fields...
 
+    public long getId() { return id; }
+    public synchronized void setId(long id) {
+        long old = this.id;
+        this.id = id;
+        if (store != null) store.idChanged(this, old);
+    }
+
     public String getTitle() { return title; }
     public String getDescription() { return description; }
     public LocalDate getDate() { return date; }
     public LocalTime getTime() { return time; }
     public boolean isCompleted() { return completed; }
-    public void setCompleted(boolean completed) { if (!this.completed && completed) this.completed = true; }
+    public synchronized void setCompleted(boolean completed) {
+        if (!this.completed && completed) {
+            this.completed = true;
+            if (store != null) store.completionChanged(this);
+        }
+    }
+    /** Undoes a completion that could not be saved. Not for normal edits: completion is sticky. */
+    synchronized void revertCompleted() {
+        if (this.completed) {
+            this.completed = false;
+            if (store != null) store.completionChanged(this);
+        }
+    }
 
-    public String getPriority() { return priority; }
-    public void setPriority(String priority) { this.priority = priority; }
+    /** The priority's label, e.g. "High"; null if it has none. */
+    public String getPriority() { return priority == null ? null : priority.label(); }
+    public TaskPriority getPriorityLevel() { return priority; }
+    /** 0 for High, 1 Medium, 2 Low, 3 none: smaller sorts first. */
+    public int getPriorityRank() { return priority == null ? 3 : priority.ordinal(); }
+    /** The due date as an epoch day; Long.MAX_VALUE when there is none. */
+    public long getDueEpochDay() { return dueEpochDay; }
+    /** Accepts "High", "Medium" or "Low"; throws IllegalArgumentException for anything else. */
+    public void setPriority(String priority) { setPriority(TaskPriority.fromLabel(priority)); }
+    public synchronized void setPriority(TaskPriority priority) {
+        TaskPriority old = this.priority;
+        this.priority = priority;
+        if (store != null) store.priorityChanged(this, old);
+    }
 
     public int getComplexity() { return complexity; }
-    public void setComplexity(int complexity) { this.complexity = complexity; }
+    public synchronized void setComplexity(int complexity) {
+        this.complexity = complexity;
+        if (store != null) store.edited(this);
+    }
 
-    public String getCategory() { return category; }
-    public void setCategory(String category) { this.category = category; }
+    public String getCategory() { return CategoryDictionary.nameOf(categoryCode); }
+    public int getCategoryCode() { return categoryCode; }
+    public synchronized void setCategory(String category) {
+        int old = this.categoryCode;
+        this.categoryCode = CategoryDictionary.codeOf(category);
+        if (store != null) store.categoryChanged(this, old);
+    }
 
     public String getNotes() { return notes; }
-    public void setNotes(String notes) { this.notes = notes; }
+    public synchronized void setNotes(String notes) {
+        this.notes = notes;
+        if (store != null) store.edited(this);
+    }
 
     public LocalDateTime getCreatedAt() { return createdAt; }
-    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public synchronized void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
     // Timer getters/setters
     public LocalDateTime getStartTime() { return startTime; }
-    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+    public synchronized void setStartTime(LocalDateTime startTime) {
+        this.startTime = startTime;
+        if (store != null) store.edited(this);
+    }
 
     public Duration getDuration() { return duration; }
-    public void setDuration(Duration duration) { this.duration = duration; }
+    public synchronized void setDuration(Duration duration) {
+        this.duration = duration;
+        if (store != null) store.edited(this);
+    }
 
     public boolean isTimerEnabled() { return timerEnabled; }
-    public void setTimerEnabled(boolean timerEnabled) { this.timerEnabled = timerEnabled; }
+    public synchronized void setTimerEnabled(boolean timerEnabled) {
+        this.timerEnabled = timerEnabled;
+        if (store != null) store.edited(this);
+    }
+
+    private static long epochDayOf(LocalDate date) {
+        return date == null ? Long.MAX_VALUE : date.toEpochDay();
+    }
 }
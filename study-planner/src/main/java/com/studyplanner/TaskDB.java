@@ -1,184 +1,295 @@
 package com.studyplanner;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.time.Duration;
+import java.sql.Types;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TaskDB {
     private static final String DB_URL = "jdbc:sqlite:tasks.db";
+    private static final int MAX_READERS = Integer.getInteger("studyplanner.db.readers", 4);
 
-    static {
-        // 1) Create table if missing (only original columns)
-        try (Connection conn = DriverManager.getConnection(DB_URL)) {
-            String sql = """
-                CREATE TABLE IF NOT EXISTS tasks (
-                    title TEXT,
-                    date TEXT,
-                    completed INTEGER,
-                    priority TEXT,
-                    complexity INTEGER,
-                    category TEXT,
-                    notes TEXT,
-                    createdAt TEXT
-                )
-            """;
-            conn.createStatement().execute(sql);
-
-            // 2) Migrate: add new columns if they don't exist
-            //    SQLite will error if the column is already there, so catch & ignore.
-            try {
-                conn.createStatement()
-                    .execute("ALTER TABLE tasks ADD COLUMN startTime TEXT");
-            } catch (SQLException e) { /* already exists? ignore */ }
-
-            try {
-                conn.createStatement()
-                    .execute("ALTER TABLE tasks ADD COLUMN durationSeconds INTEGER");
-            } catch (SQLException e) { /* already exists? ignore */ }
+    private static final ConnectionPool POOL =
+        new ConnectionPool(DB_URL, MAX_READERS, ConnectionPool.pragmasFromSystemProperties());
 
-            try {
-                conn.createStatement()
-                    .execute("ALTER TABLE tasks ADD COLUMN timerEnabled INTEGER");
-            } catch (SQLException e) { /* already exists? ignore */ }
+    private static final List<SchemaMigrator.Timing> migrationReport;
 
+    static {
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            migrationReport = TaskSchema.MIGRATIONS.migrate(pc.connection());
         } catch (SQLException e) {
             throw new RuntimeException("Failed to initialize tasks table", e);
         }
     }
 
-    public static void saveTaskToDB(Task t) {
-        String sql = """
-            INSERT INTO tasks (
-              title, date, completed, priority, complexity,
-              category, notes, createdAt,
-              startTime, durationSeconds, timerEnabled
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-        """;
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setString(1, t.getTitle());
-            stmt.setString(2, t.getDate().toString());
-            stmt.setInt(3, t.isCompleted() ? 1 : 0);
-            stmt.setString(4, t.getPriority());
-            stmt.setInt(5, t.getComplexity());
-            stmt.setString(6, t.getCategory());
-            stmt.setString(7, t.getNotes());
-            stmt.setString(8, t.getCreatedAt().toString());
-            stmt.setString(9, t.getStartTime().toString());
-            stmt.setLong(10, t.getDuration().getSeconds());
-            stmt.setInt(11, t.isTimerEnabled() ? 1 : 0);
+    /** Migrations applied when this class was loaded, with their durations. */
+    public static List<SchemaMigrator.Timing> migrationReport() {
+        return migrationReport;
+    }
+
+    private static final String INSERT_SQL = """
+        INSERT INTO tasks (
+          title, date, completed, priority, complexity,
+          category, notes, createdAt,
+          startTime, durationSeconds, timerEnabled
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    /** Default number of rows written per transaction by {@link #saveAll}. */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private static void bindInsert(PreparedStatement stmt, Task t) throws SQLException {
+        stmt.setString(1, t.getTitle());
+        stmt.setLong(2, t.getDate().toEpochDay());
+        stmt.setInt(3, t.isCompleted() ? 1 : 0);
+        bindPriority(stmt, 4, t.getPriorityLevel());
+        stmt.setInt(5, t.getComplexity());
+        bindCategory(stmt, 6, t.getCategoryCode());
+        stmt.setString(7, t.getNotes());
+        stmt.setLong(8, TaskSchema.epochSecond(t.getCreatedAt()));
+        stmt.setLong(9, TaskSchema.epochSecond(t.getStartTime()));
+        stmt.setLong(10, t.getDuration().getSeconds());
+        stmt.setInt(11, t.isTimerEnabled() ? 1 : 0);
+    }
+
+    // CategoryDictionary code -> categories.id. Filled and cleared only while
+    // holding the writer, but concurrent so a stray reader can never see a
+    // half-built table
+    private static final Map<Integer, Long> categoryIds = new ConcurrentHashMap<>();
+
+    private static void bindPriority(PreparedStatement stmt, int index, TaskPriority priority) throws SQLException {
+        if (priority == null) {
+            stmt.setNull(index, Types.INTEGER);
+        } else {
+            stmt.setInt(index, priority.code());
+        }
+    }
+
+    /** Binds the categories id for {@code code}, adding the category row the first time it is written. */
+    private static void bindCategory(PreparedStatement stmt, int index, int code) throws SQLException {
+        if (code == CategoryDictionary.NONE) {
+            stmt.setNull(index, Types.INTEGER);
+            return;
+        }
+        Long id = categoryIds.get(code);
+        if (id == null) {
+            id = categoryId(stmt.getConnection(), CategoryDictionary.nameOf(code));
+            categoryIds.put(code, id);
+        }
+        stmt.setLong(index, id);
+    }
 
+    private static long categoryId(Connection conn, String name) throws SQLException {
+        try (PreparedStatement insert = conn.prepareStatement("INSERT OR IGNORE INTO categories (name) VALUES (?)")) {
+            insert.setString(1, name);
+            insert.executeUpdate();
+        }
+        try (PreparedStatement select = conn.prepareStatement("SELECT id FROM categories WHERE name = ?")) {
+            select.setString(1, name);
+            try (ResultSet rs = select.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static long generatedId(PreparedStatement stmt) throws SQLException {
+        try (ResultSet keys = stmt.getGeneratedKeys()) {
+            return keys.next() ? keys.getLong(1) : 0;
+        }
+    }
+
+    public static void saveTaskToDB(Task t) {
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            PreparedStatement stmt = pc.prepareInsert(INSERT_SQL);
+            bindInsert(stmt, t);
             stmt.executeUpdate();
+            t.setId(generatedId(stmt));
         } catch (SQLException e) {
             throw new RuntimeException("Failed to save task", e);
         }
     }
 
-    public static void updateTaskInDB(Task t) {
-        String sql = """
-            UPDATE tasks SET
-              completed=?, priority=?, complexity=?, category=?, notes=?, createdAt=?,
-              startTime=?, durationSeconds=?, timerEnabled=?
-            WHERE title=? AND date=?
-        """;
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-            stmt.setInt(1, t.isCompleted() ? 1 : 0);
-            stmt.setString(2, t.getPriority());
-            stmt.setInt(3, t.getComplexity());
-            stmt.setString(4, t.getCategory());
-            stmt.setString(5, t.getNotes());
-            stmt.setString(6, t.getCreatedAt().toString());
-            stmt.setString(7, t.getStartTime().toString());
-            stmt.setLong(8, t.getDuration().getSeconds());
-            stmt.setInt(9, t.isTimerEnabled() ? 1 : 0);
+    public static int saveAll(Collection<Task> tasks) {
+        return saveAll(tasks.iterator(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public static int saveAll(Collection<Task> tasks, int chunkSize) {
+        return saveAll(tasks.iterator(), chunkSize);
+    }
+
+    /**
+     * Inserts every task from {@code source} using JDBC batches, committing
+     * once per {@code chunkSize} rows instead of once per row. The iterator is
+     * consumed lazily, so only one chunk is held by the driver at a time.
+     * If a chunk fails it is rolled back; earlier chunks stay committed.
+     *
+     * @return the number of rows inserted
+     */
+    public static int saveAll(Iterator<Task> source, int chunkSize) {
+        if (source == null) throw new IllegalArgumentException("Source cannot be null");
+        if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive");
+
+        int saved = 0;
+        List<Task> chunk = new ArrayList<>(Math.min(chunkSize, DEFAULT_CHUNK_SIZE));
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            Connection conn = pc.connection();
+            PreparedStatement stmt = pc.prepare(INSERT_SQL);
+            conn.setAutoCommit(false);
+            try {
+                while (source.hasNext()) {
+                    chunk.clear();
+                    while (chunk.size() < chunkSize && source.hasNext()) {
+                        Task t = source.next();
+                        if (t == null) throw new IllegalArgumentException("Task cannot be null");
+                        bindInsert(stmt, t);
+                        stmt.addBatch();
+                        chunk.add(t);
+                    }
+                    stmt.executeBatch();
+                    // We hold the only writer, so the chunk got consecutive rowids
+                    long lastId = lastInsertRowId(pc);
+                    conn.commit();
+                    for (int i = 0; i < chunk.size(); i++) {
+                        chunk.get(i).setId(lastId - (chunk.size() - 1 - i));
+                    }
+                    saved += chunk.size();
+                }
+            } catch (SQLException | RuntimeException e) {
+                stmt.clearBatch();
+                conn.rollback();
+                // Categories added in the failed chunk are gone again
+                categoryIds.clear();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to save tasks", e);
+        }
+        return saved;
+    }
+
+    private static long lastInsertRowId(ConnectionPool.PooledConnection pc) throws SQLException {
+        // The pool owns and caches the statement; only the result set is closed here
+        try (ResultSet rs = pc.prepare("SELECT last_insert_rowid()").executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static final String UPDATE_BY_ID_SQL = """
+        UPDATE tasks SET
+          completed=?, priority=?, complexity=?, category=?, notes=?, createdAt=?,
+          startTime=?, durationSeconds=?, timerEnabled=?
+        WHERE id=?
+    """;
+
+    private static final String UPDATE_BY_TITLE_SQL = """
+        UPDATE tasks SET
+          completed=?, priority=?, complexity=?, category=?, notes=?, createdAt=?,
+          startTime=?, durationSeconds=?, timerEnabled=?
+        WHERE title=? AND date=?
+    """;
+
+    /** Prepares and binds the update for {@code t}: by id, or by title and date if it has none. */
+    private static PreparedStatement bindUpdate(ConnectionPool.PooledConnection pc, Task t) throws SQLException {
+        PreparedStatement stmt = pc.prepare(t.getId() > 0 ? UPDATE_BY_ID_SQL : UPDATE_BY_TITLE_SQL);
+        stmt.setInt(1, t.isCompleted() ? 1 : 0);
+        bindPriority(stmt, 2, t.getPriorityLevel());
+        stmt.setInt(3, t.getComplexity());
+        bindCategory(stmt, 4, t.getCategoryCode());
+        stmt.setString(5, t.getNotes());
+        stmt.setLong(6, TaskSchema.epochSecond(t.getCreatedAt()));
+        stmt.setLong(7, TaskSchema.epochSecond(t.getStartTime()));
+        stmt.setLong(8, t.getDuration().getSeconds());
+        stmt.setInt(9, t.isTimerEnabled() ? 1 : 0);
+        if (t.getId() > 0) {
+            stmt.setLong(10, t.getId());
+        } else {
             stmt.setString(10, t.getTitle());
-            stmt.setString(11, t.getDate().toString());
+            stmt.setLong(11, t.getDate().toEpochDay());
+        }
+        return stmt;
+    }
 
-            stmt.executeUpdate();
+    /**
+     * Updates the row for {@code t} by id. Tasks that were never stored
+     * (id 0) fall back to matching on title and date.
+     */
+    public static void updateTaskInDB(Task t) {
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            bindUpdate(pc, t).executeUpdate();
         } catch (SQLException e) {
             throw new RuntimeException("Failed to update task", e);
         }
     }
 
+    /** Writes every task in {@code tasks} like {@link #updateTaskInDB}, all in one transaction. */
+    public static void updateAll(Collection<Task> tasks) {
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            Connection conn = pc.connection();
+            conn.setAutoCommit(false);
+            try {
+                for (Task t : tasks) {
+                    bindUpdate(pc, t).executeUpdate();
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                categoryIds.clear();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update tasks", e);
+        }
+    }
+
+    /** Deletes the task with the given id. Returns false if no such row exists. */
+    public static boolean deleteTaskById(long id) {
+        try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+            PreparedStatement stmt = pc.prepare("DELETE FROM tasks WHERE id=?");
+            stmt.setLong(1, id);
+            return stmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete task", e);
+        }
+    }
+
+    public static boolean deleteTask(Task t) {
+        if (t == null) throw new IllegalArgumentException("Task cannot be null");
+        if (t.getId() <= 0) return false;
+        return deleteTaskById(t.getId());
+    }
+
     public static List<Task> loadAllTasks() {
-        List<Task> tasks = new ArrayList<>();
         String sql = "SELECT * FROM tasks";
-        try (Connection conn = DriverManager.getConnection(DB_URL);
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-
-            while (rs.next()) {
-                String title = rs.getString("title");
-                LocalDate date = LocalDate.parse(rs.getString("date"));
-                boolean completed = rs.getInt("completed") != 0;
-                String priority = rs.getString("priority");
-                int complexity = rs.getInt("complexity");
-                String category = rs.getString("category");
-                String notes = rs.getString("notes");
-                LocalDateTime createdAt = LocalDateTime.parse(rs.getString("createdAt"));
-
-                // For older rows these columns may be NULL
-                String startTimeStr = rs.getString("startTime");
-                LocalDateTime startTime = (startTimeStr != null)
-                    ? LocalDateTime.parse(startTimeStr)
-                    : LocalDateTime.now();
-
-                long durSecs = 0;
-                try { durSecs = rs.getLong("durationSeconds"); }
-                catch (SQLException ignore) { /* missing or null → 0 */ }
-                Duration duration = Duration.ofSeconds(durSecs > 0 ? durSecs : 30 * 60);
-
-                boolean timerEnabled = false;
-                try { timerEnabled = rs.getInt("timerEnabled") != 0; }
-                catch (SQLException ignore) { /* missing → false */ }
-
-                Task t = new Task(
-                    title, date, completed,
-                    priority, complexity,
-                    category, notes, createdAt,
-                    startTime, duration, timerEnabled
-                );
-                tasks.add(t);
-            }
+        try (ConnectionPool.PooledConnection pc = POOL.reader();
+             ResultSet rs = pc.prepare(sql).executeQuery()) {
+            return TaskRowMapper.mapAll(rs);
         } catch (SQLException e) {
             throw new RuntimeException("Failed to load tasks", e);
         }
-        return tasks;
     }
 
 public static void addTask(Task task) {
     if (task == null) throw new IllegalArgumentException("Task cannot be null");
 
-    String sql = "INSERT INTO tasks (title, date, completed, priority, complexity, category, notes, createdAt, startTime, durationSeconds, timerEnabled) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-    try (Connection conn = DriverManager.getConnection(DB_URL);
-         PreparedStatement stmt = conn.prepareStatement(sql)) {
-
-        stmt.setString(1, task.getTitle());
-        stmt.setString(2, task.getDate().toString());
-        stmt.setInt(3, task.isCompleted() ? 1 : 0);
-        stmt.setString(4, task.getPriority());
-        stmt.setInt(5, task.getComplexity());
-        stmt.setString(6, task.getCategory());
-        stmt.setString(7, task.getNotes());
-        stmt.setString(8, task.getCreatedAt().toString());
-        stmt.setString(9, task.getStartTime().toString());
-        stmt.setLong(10, task.getDuration().getSeconds());
-        stmt.setInt(11, task.isTimerEnabled() ? 1 : 0);
-
+    try (ConnectionPool.PooledConnection pc = POOL.writer()) {
+        PreparedStatement stmt = pc.prepareInsert(INSERT_SQL);
+        bindInsert(stmt, task);
         stmt.executeUpdate();
+        task.setId(generatedId(stmt));
 
     } catch (SQLException e) {
         throw new RuntimeException("Failed to insert task into database", e);
@@ -186,42 +297,152 @@ public static void addTask(Task task) {
 }
 
 public static List<Task> getTasksForDate(LocalDate date) {
-    List<Task> tasks = new ArrayList<>();
     String sql = "SELECT * FROM tasks WHERE date = ?";
 
-    try (Connection conn = DriverManager.getConnection(DB_URL);
-         PreparedStatement ps = conn.prepareStatement(sql)) {
-
-        ps.setString(1, date.toString());
-        ResultSet rs = ps.executeQuery();
-
-        while (rs.next()) {
-            String title = rs.getString("title");
-            LocalDate taskDate = LocalDate.parse(rs.getString("date"));
-            boolean completed = rs.getInt("completed") != 0;
-            String priority = rs.getString("priority");
-            int complexity = rs.getInt("complexity");
-            String category = rs.getString("category");
-            String notes = rs.getString("notes");
-            LocalDateTime createdAt = LocalDateTime.parse(rs.getString("createdAt"));
-            String startTimeStr = rs.getString("startTime");
-            LocalDateTime startTime = (startTimeStr != null) ? LocalDateTime.parse(startTimeStr) : LocalDateTime.now();
-            long durSecs = 0;
-            try { durSecs = rs.getLong("durationSeconds"); } catch (SQLException ignore) {}
-            Duration duration = Duration.ofSeconds(durSecs > 0 ? durSecs : 30 * 60);
-            boolean timerEnabled = false;
-            try { timerEnabled = rs.getInt("timerEnabled") != 0; } catch (SQLException ignore) {}
-
-            Task t = new Task(
-                title, taskDate, completed,
-                priority, complexity, category, notes, createdAt,
-                startTime, duration, timerEnabled
-            );
-            tasks.add(t);
+    try (ConnectionPool.PooledConnection pc = POOL.reader()) {
+        PreparedStatement ps = pc.prepare(sql);
+
+        ps.setLong(1, date.toEpochDay());
+        try (ResultSet rs = ps.executeQuery()) {
+            return TaskRowMapper.mapAll(rs);
+        }
+    } catch (SQLException e) {
+        throw new RuntimeException("Failed to fetch tasks", e);
+    }
+}
+
+/** All tasks dated from {@code from} to {@code to}, both inclusive, ordered by date. */
+public static List<Task> getTasksBetween(LocalDate from, LocalDate to) {
+    String sql = "SELECT * FROM tasks WHERE date BETWEEN ? AND ? ORDER BY date, id";
+
+    try (ConnectionPool.PooledConnection pc = POOL.reader()) {
+        PreparedStatement ps = pc.prepare(sql);
+
+        ps.setLong(1, from.toEpochDay());
+        ps.setLong(2, to.toEpochDay());
+        try (ResultSet rs = ps.executeQuery()) {
+            return TaskRowMapper.mapAll(rs);
+        }
+    } catch (SQLException e) {
+        throw new RuntimeException("Failed to fetch tasks", e);
+    }
+}
+
+/** Every task that is not completed yet, ordered by date. */
+public static List<Task> getOngoingTasks() {
+    String sql = "SELECT * FROM tasks WHERE completed = 0 ORDER BY date, id";
+
+    try (ConnectionPool.PooledConnection pc = POOL.reader();
+         ResultSet rs = pc.prepare(sql).executeQuery()) {
+        return TaskRowMapper.mapAll(rs);
+    } catch (SQLException e) {
+        throw new RuntimeException("Failed to fetch tasks", e);
+    }
+}
+
+/** Position in the (date, id) ordering of the tasks table. */
+public record Cursor(long epochDay, long id) {
+    public static final Cursor START = new Cursor(Long.MIN_VALUE, Long.MIN_VALUE);
+}
+
+/** One page of tasks; {@code next} is null once the table is exhausted. */
+public record Page(List<Task> tasks, Cursor next) { }
+
+/**
+ * Returns up to {@code limit} tasks that come after {@code cursor} in
+ * (date, id) order. Pages are found through the date index, so every page
+ * costs the same no matter how deep into the table it is.
+ */
+public static Page page(Cursor cursor, int limit) {
+    if (cursor == null) throw new IllegalArgumentException("Cursor cannot be null");
+    if (limit < 1) throw new IllegalArgumentException("Limit must be positive");
+    String sql = "SELECT * FROM tasks WHERE (date, id) > (?, ?) ORDER BY date, id LIMIT ?";
+
+    try (ConnectionPool.PooledConnection pc = POOL.reader()) {
+        PreparedStatement ps = pc.prepare(sql);
+
+        ps.setLong(1, cursor.epochDay());
+        ps.setLong(2, cursor.id());
+        ps.setInt(3, limit);
+        List<Task> tasks;
+        try (ResultSet rs = ps.executeQuery()) {
+            tasks = TaskRowMapper.mapAll(rs);
         }
+        Cursor next = null;
+        if (tasks.size() == limit) {
+            Task last = tasks.get(tasks.size() - 1);
+            next = new Cursor(last.getDate().toEpochDay(), last.getId());
+        }
+        return new Page(tasks, next);
     } catch (SQLException e) {
         throw new RuntimeException("Failed to fetch tasks", e);
     }
-    return tasks;
+}
+
+/**
+ * Like {@link #page}, but only completed tasks dated before {@code from}
+ * or after {@code to}: the history left once a window and every ongoing
+ * task have been loaded. Pages come from the (completed, date) index, so
+ * ongoing rows are never read and rows inside the window are stepped over
+ * once across all the pages.
+ */
+public static Page historyPage(Cursor cursor, int limit, LocalDate from, LocalDate to) {
+    if (cursor == null) throw new IllegalArgumentException("Cursor cannot be null");
+    if (limit < 1) throw new IllegalArgumentException("Limit must be positive");
+    String sql = "SELECT * FROM tasks WHERE (date, id) > (?, ?) AND completed = 1"
+        + " AND (date < ? OR date > ?) ORDER BY date, id LIMIT ?";
+
+    try (ConnectionPool.PooledConnection pc = POOL.reader()) {
+        PreparedStatement ps = pc.prepare(sql);
+
+        ps.setLong(1, cursor.epochDay());
+        ps.setLong(2, cursor.id());
+        ps.setLong(3, from.toEpochDay());
+        ps.setLong(4, to.toEpochDay());
+        ps.setInt(5, limit);
+        List<Task> tasks;
+        try (ResultSet rs = ps.executeQuery()) {
+            tasks = TaskRowMapper.mapAll(rs);
+        }
+        Cursor next = null;
+        if (tasks.size() == limit) {
+            Task last = tasks.get(tasks.size() - 1);
+            next = new Cursor(last.getDate().toEpochDay(), last.getId());
+        }
+        return new Page(tasks, next);
+    } catch (SQLException e) {
+        throw new RuntimeException("Failed to fetch tasks", e);
+    }
+}
+
+/** Number of tasks on each day from {@code from} to {@code to}; days without tasks are absent. */
+public static Map<LocalDate, Integer> countByDate(LocalDate from, LocalDate to) {
+    String sql = "SELECT date, COUNT(*) FROM tasks WHERE date BETWEEN ? AND ? GROUP BY date";
+    Map<LocalDate, Integer> counts = new TreeMap<>();
+
+    try (ConnectionPool.PooledConnection pc = POOL.reader()) {
+        PreparedStatement ps = pc.prepare(sql);
+
+        ps.setLong(1, from.toEpochDay());
+        ps.setLong(2, to.toEpochDay());
+        try (ResultSet rs = ps.executeQuery()) {
+            while (rs.next()) {
+                counts.put(LocalDate.ofEpochDay(rs.getLong(1)), rs.getInt(2));
+            }
+        }
+    } catch (SQLException e) {
+        throw new RuntimeException("Failed to count tasks", e);
+    }
+    return counts;
+}
+
+/** Pool utilization and wait-time metrics for the shared connections. */
+public static ConnectionPool.Stats poolStats() {
+    return POOL.stats();
+}
+
+/** Closes the pooled connections; call once when the application exits. */
+public static void shutdown() {
+    POOL.close();
 }
 }
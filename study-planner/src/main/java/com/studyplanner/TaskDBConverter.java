@@ -0,0 +1,45 @@
+package com.studyplanner;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Command-line tool that switches an existing tasks.db between the compact
+ * epoch storage format and the older ISO text format.
+ *
+ * <pre>
+ *   TaskDBConverter path/to/tasks.db epoch   # upgrade to the current schema
+ *   TaskDBConverter path/to/tasks.db iso     # write ISO text back for older builds
+ * </pre>
+ *
+ * Run it while the planner is closed. Both directions are ordinary schema
+ * migrations, so each step is transactional.
+ */
+public final class TaskDBConverter {
+
+    private TaskDBConverter() { }
+
+    public static List<SchemaMigrator.Timing> toEpoch(Connection conn) throws SQLException {
+        return TaskSchema.MIGRATIONS.migrateTo(conn, TaskSchema.MIGRATIONS.latestVersion());
+    }
+
+    public static List<SchemaMigrator.Timing> toIso(Connection conn) throws SQLException {
+        return TaskSchema.MIGRATIONS.migrateTo(conn, TaskSchema.ISO_TEMPORAL_VERSION);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length != 2 || !(args[1].equals("epoch") || args[1].equals("iso"))) {
+            System.err.println("Usage: TaskDBConverter <tasks.db> <epoch|iso>");
+            System.exit(2);
+        }
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + args[0])) {
+            List<SchemaMigrator.Timing> steps = args[1].equals("epoch") ? toEpoch(conn) : toIso(conn);
+            for (SchemaMigrator.Timing step : steps) {
+                System.out.printf("version %d: %s (%.2f ms)%n", step.version(), step.description(), step.millis());
+            }
+            System.out.println("Schema version is now " + SchemaMigrator.readUserVersion(conn));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.studyplanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The ongoing and completed lists behind {@link TaskListPage}, kept in step
+ * with a {@link TaskStore} by deltas.
+ *
+ * Store changes may arrive on any thread. They are queued and applied in
+ * one batch on {@code uiExecutor}, at a cost that follows the size of the
+ * batch, not of the lists: each list keeps the row of every task, so an
+ * edited row is re-set in place and a removed row is filled by the list's
+ * last row, and additions go in with a single addAll. Rows that did not
+ * change are never touched, so the tables keep their scroll position and
+ * selection. Row order is therefore not meaningful; the tables sort.
+ */
+final class TaskListModel {
+
+    private enum Where { NONE, ONGOING, COMPLETED }
+
+    private record Delta(Task task, TaskStore.Change change) { }
+
+    /** An observable list plus the row of each task in it. Only touched on the UI thread. */
+    private static final class Rows {
+        final ObservableList<Task> list = FXCollections.observableArrayList();
+        private final Map<Task, Integer> rowOf = new HashMap<>();
+
+        void addAll(List<Task> tasks) {
+            int row = list.size();
+            for (Task t : tasks) rowOf.put(t, row++);
+            list.addAll(tasks);
+        }
+
+        /** Removes {@code t}'s row, moving the last row into its place. */
+        void remove(Task t) {
+            Integer row = rowOf.remove(t);
+            if (row == null) return;
+            int last = list.size() - 1;
+            if (row != last) {
+                Task moved = list.get(last);
+                list.set(row, moved);
+                rowOf.put(moved, row);
+            }
+            list.remove(last);
+        }
+
+        /** Re-sets {@code t}'s row, so filters and sorts look at it again. */
+        void refresh(Task t) {
+            Integer row = rowOf.get(t);
+            if (row != null) list.set(row, t);
+        }
+    }
+
+    private final TaskStore store;
+    private final Executor uiExecutor;
+
+    private final Rows ongoing = new Rows();
+    private final Rows completed = new Rows();
+    // Which list each shown task is on; only touched on the UI thread
+    private final Map<Task, Where> shown = new HashMap<>();
+
+    private final Queue<Delta> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    TaskListModel(TaskStore store, Executor uiExecutor) {
+        this.store = store;
+        this.uiExecutor = uiExecutor;
+        // Listen first, so nothing is missed; deltas for tasks already in
+        // the snapshot find them in place and do nothing
+        store.addListener(this::enqueue);
+        TaskStore.Snapshot snapshot = store.snapshot();
+        ongoing.addAll(snapshot.ongoing());
+        completed.addAll(snapshot.completed());
+        snapshot.ongoing().forEach(t -> shown.put(t, Where.ONGOING));
+        snapshot.completed().forEach(t -> shown.put(t, Where.COMPLETED));
+    }
+
+    ObservableList<Task> ongoing() { return ongoing.list; }
+    ObservableList<Task> completed() { return completed.list; }
+
+    private void enqueue(Task t, TaskStore.Change change) {
+        pending.add(new Delta(t, change));
+        if (drainScheduled.compareAndSet(false, true)) uiExecutor.execute(this::drain);
+    }
+
+    /** Applies every queued delta. Runs on the UI thread. */
+    void drain() {
+        drainScheduled.set(false);
+
+        // Collapse the batch to one entry per task; later deltas win
+        Map<Task, Boolean> batch = new LinkedHashMap<>();
+        for (Delta d; (d = pending.poll()) != null; ) {
+            batch.merge(d.task(), d.change() == TaskStore.Change.EDITED, Boolean::logicalOr);
+        }
+        if (batch.isEmpty()) return;
+
+        List<Task> joinOngoing = new ArrayList<>();
+        List<Task> joinCompleted = new ArrayList<>();
+
+        batch.forEach((t, wasEdited) -> {
+            Where from = shown.getOrDefault(t, Where.NONE);
+            Where to = target(t);
+            if (from == to) {
+                if (wasEdited && to == Where.ONGOING) ongoing.refresh(t);
+                return;
+            }
+            if (from == Where.ONGOING) ongoing.remove(t);
+            if (from == Where.COMPLETED) completed.remove(t);
+            if (to == Where.ONGOING) joinOngoing.add(t);
+            if (to == Where.COMPLETED) joinCompleted.add(t);
+            if (to == Where.NONE) shown.remove(t); else shown.put(t, to);
+        });
+
+        if (!joinOngoing.isEmpty()) ongoing.addAll(joinOngoing);
+        if (!joinCompleted.isEmpty()) completed.addAll(joinCompleted);
+    }
+
+    // Where the task belongs now; later deltas will correct it if it moves again
+    private Where target(Task t) {
+        synchronized (t) {
+            if (!store.contains(t)) return Where.NONE;
+            return t.isCompleted() ? Where.COMPLETED : Where.ONGOING;
+        }
+    }
+}
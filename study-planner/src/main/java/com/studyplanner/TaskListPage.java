@@ -1,82 +1,75 @@
 // src/main/java/com/studyplanner/TaskListPage.java
 package com.studyplanner;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Function;
 
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 
 public class TaskListPage {
 
+   private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy");
+   private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+   private static final DateTimeFormatter START_FORMAT = DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm");
+
    private TableView<Task> ongoingTable = new TableView<>();
    private TableView<Task> completedTable = new TableView<>();
 
    // Controls for filtering/sorting
    private ComboBox<String> priorityFilter = new ComboBox<>();
    private ComboBox<String> sortByFilter = new ComboBox<>();
+   private Button autoScheduleButton = new Button("Auto-schedule");
+
+   // Hours the auto-scheduler may fill, every day of the week
+   private static final AutoScheduler SCHEDULER =
+       new AutoScheduler(LocalTime.of(9, 0), LocalTime.of(18, 0), EnumSet.allOf(DayOfWeek.class));
 
    // Data for tables
-   private ObservableList<Task> ongoingTasks;
+   private TaskListModel model;
    private FilteredList<Task> filtered;
    private SortedList<Task> sorted;
 
    public Pane createContent() {
        // --- Ongoing Tasks Table ---
-       TableColumn<Task, String> taskCol = new TableColumn<>("Task");
-       taskCol.setCellValueFactory(new PropertyValueFactory<>("title"));
-
-       TableColumn<Task, String> dueDateCol = new TableColumn<>("Due Date");
-       dueDateCol.setCellValueFactory(cellData -> new SimpleStringProperty(
-           cellData.getValue().getDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy"))
-       ));
-
-       TableColumn<Task, String> priorityCol = new TableColumn<>("Priority");
-       priorityCol.setCellValueFactory(new PropertyValueFactory<>("priority"));
-
-       TableColumn<Task, Integer> complexityCol = new TableColumn<>("Complexity");
-       complexityCol.setCellValueFactory(new PropertyValueFactory<>("complexity"));
-
-       TableColumn<Task, String> categoryCol = new TableColumn<>("Category");
-       categoryCol.setCellValueFactory(new PropertyValueFactory<>("category"));
-
-       TableColumn<Task, String> notesCol = new TableColumn<>("Notes");
-       notesCol.setCellValueFactory(new PropertyValueFactory<>("notes"));
-
-       TableColumn<Task, String> createdAtCol = new TableColumn<>("Created At");
-       createdAtCol.setCellValueFactory(cellData -> new SimpleStringProperty(
-           cellData.getValue().getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"))
-       ));
+       TableColumn<Task, String> taskCol = column("Task", Task::getTitle);
+       TableColumn<Task, LocalDate> dueDateCol = column("Due Date", Task::getDate);
+       formatCells(dueDateCol, DUE_DATE_FORMAT::format);
+       // Enum order is priority order, so the column sorts High, Medium, Low
+       TableColumn<Task, TaskPriority> priorityCol = column("Priority", Task::getPriorityLevel);
+       TableColumn<Task, Integer> complexityCol = column("Complexity", Task::getComplexity);
+       TableColumn<Task, String> categoryCol = column("Category", Task::getCategory);
+       TableColumn<Task, String> notesCol = column("Notes", Task::getNotes);
+       TableColumn<Task, LocalDateTime> createdAtCol = column("Created At", Task::getCreatedAt);
+       formatCells(createdAtCol, CREATED_AT_FORMAT::format);
 
        // Optional timer columns
-       TableColumn<Task, String> startCol = new TableColumn<>("Starts At");
-       startCol.setCellValueFactory(cellData -> new SimpleStringProperty(
-           cellData.getValue().getStartTime().format(DateTimeFormatter.ofPattern("MMM dd, yyyy HH:mm"))
-       ));
-
-       TableColumn<Task, Integer> durCol = new TableColumn<>("Duration (min)");
-       durCol.setCellValueFactory(cellData -> new SimpleIntegerProperty(
-           (int)cellData.getValue().getDuration().toMinutes()
-       ).asObject());
+       TableColumn<Task, LocalDateTime> startCol = column("Starts At", Task::getStartTime);
+       formatCells(startCol, START_FORMAT::format);
+       TableColumn<Task, Integer> durCol = column("Duration (min)", t -> (int) t.getDuration().toMinutes());
 
        ongoingTable.getColumns().setAll(
            taskCol, dueDateCol, priorityCol, complexityCol,
@@ -94,8 +87,12 @@ public class TaskListPage {
                Task t = row.getItem();
                if (t != null) {
                    t.setCompleted(true);
-                   TaskDB.updateTaskInDB(t);
-                   refreshTaskLists();
+                   StudyPlannerApp.persistence.update(t).whenCompleteAsync((saved, error) -> {
+                       if (error != null) {
+                           t.revertCompleted();
+                           StudyPlannerApp.showSaveError("Could not complete \"" + t.getTitle() + "\".", error);
+                       }
+                   }, StudyPlannerApp.fxExecutor);
                }
            });
            menu.getItems().add(completeItem);
@@ -115,50 +112,44 @@ public class TaskListPage {
        sortByFilter.getItems().addAll("Due Date", "Priority", "Complexity");
        sortByFilter.setValue("Due Date");
 
-       HBox filters = new HBox(10, new Label("Priority:"), priorityFilter, new Label("Sort by:"), sortByFilter);
+       autoScheduleButton.setOnAction(e -> autoSchedule());
+
+       HBox filters = new HBox(10, new Label("Priority:"), priorityFilter, new Label("Sort by:"), sortByFilter,
+           autoScheduleButton);
        filters.setPadding(new Insets(10));
        filters.setAlignment(Pos.CENTER_LEFT);
 
        // --- Data/Logic: FilteredList/SortedList ---
-       ongoingTasks = FXCollections.observableArrayList(StudyPlannerApp.getAllOngoingTasks());
-       filtered = new FilteredList<>(ongoingTasks, t -> true);
+       // Store changes from any thread reach the tables as deltas on the FX thread
+       model = new TaskListModel(StudyPlannerApp.tasks, StudyPlannerApp.fxExecutor);
+       filtered = new FilteredList<>(model.ongoing(), t -> true);
        sorted = new SortedList<>(filtered);
        ongoingTable.setItems(sorted);
 
        // Default sorting
-       sorted.setComparator(Comparator.comparing(Task::getDate));
+       sorted.setComparator(TaskOrder.BY_DUE_DATE);
 
        // Priority filter action
        priorityFilter.valueProperty().addListener((obs, oldVal, newVal) -> {
-           filtered.setPredicate(task -> {
-               if (newVal.equals("All")) return true;
-               return task.getPriority().equalsIgnoreCase(newVal);
-           });
-       });
-       // Sort by
-       sortByFilter.valueProperty().addListener((obs, oldVal, newVal) -> {
-           if (newVal.equals("Due Date")) {
-               sorted.setComparator(Comparator.comparing(Task::getDate));
-           } else if (newVal.equals("Priority")) {
-               List<String> order = Arrays.asList("High", "Medium", "Low");
-               sorted.setComparator(Comparator.comparingInt(task -> order.indexOf(task.getPriority())));
-           } else if (newVal.equals("Complexity")) {
-               sorted.setComparator(Comparator.comparingInt(Task::getComplexity));
+           if (newVal.equals("All")) {
+               filtered.setPredicate(task -> true);
+           } else {
+               TaskPriority wanted = TaskPriority.fromLabel(newVal);
+               filtered.setPredicate(task -> task.getPriorityLevel() == wanted);
            }
        });
+       // Sort by
+       sortByFilter.valueProperty().addListener((obs, oldVal, newVal) ->
+           sorted.setComparator(TaskOrder.forChoice(newVal)));
 
        // --- Completed Tasks Table ---
-       TableColumn<Task, String> cTaskCol = new TableColumn<>("Task");
-       cTaskCol.setCellValueFactory(new PropertyValueFactory<>("title"));
-
-       TableColumn<Task, String> cDueDateCol = new TableColumn<>("Due Date");
-       cDueDateCol.setCellValueFactory(cellData -> new SimpleStringProperty(
-           cellData.getValue().getDate().format(DateTimeFormatter.ofPattern("MMM dd, yyyy"))
-       ));
+       TableColumn<Task, String> cTaskCol = column("Task", Task::getTitle);
+       TableColumn<Task, LocalDate> cDueDateCol = column("Due Date", Task::getDate);
+       formatCells(cDueDateCol, DUE_DATE_FORMAT::format);
 
        completedTable.getColumns().setAll(cTaskCol, cDueDateCol);
        completedTable.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
-       completedTable.setItems(FXCollections.observableArrayList(StudyPlannerApp.getAllCompletedTasks()));
+       completedTable.setItems(model.completed());
 
        // --- Layout ---
        VBox ongoingBox = new VBox(
@@ -182,9 +173,47 @@ public class TaskListPage {
        return root;
    }
 
-   // Call this when data changes to refresh tables
-   public void refreshTaskLists() {
-       ongoingTasks.setAll(StudyPlannerApp.getAllOngoingTasks());
-       completedTable.setItems(FXCollections.observableArrayList(StudyPlannerApp.getAllCompletedTasks()));
+   /**
+    * Gives every ongoing task without a timer a start time, around the tasks
+    * whose timer pins them to one, and saves the new times.
+    */
+   private void autoSchedule() {
+       List<Task> open = new ArrayList<>();
+       List<Task> pinned = new ArrayList<>();
+       for (Task t : StudyPlannerApp.getAllOngoingTasks()) {
+           (t.isTimerEnabled() ? pinned : open).add(t);
+       }
+       AutoScheduler.Result result = SCHEDULER.schedule(open, pinned, LocalDateTime.now());
+       result.apply();
+       for (AutoScheduler.Placement p : result.placed()) {
+           StudyPlannerApp.persistence.update(p.task()).whenCompleteAsync((saved, error) -> {
+               if (error != null) {
+                   StudyPlannerApp.showSaveError("Could not save the start of \"" + p.task().getTitle() + "\".", error);
+               }
+           }, StudyPlannerApp.fxExecutor);
+       }
+
+       AutoScheduler.Quality q = result.quality();
+       new Alert(Alert.AlertType.INFORMATION, String.format(
+           "Scheduled %d task(s); %d will finish after their due date, %d did not fit.",
+           q.placed(), q.late(), q.unplaced())).show();
+   }
+
+   // Typed column read straight from the getter, with no reflection per cell
+   private static <T> TableColumn<Task, T> column(String title, Function<Task, T> value) {
+       TableColumn<Task, T> col = new TableColumn<>(title);
+       col.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(value.apply(cellData.getValue())));
+       return col;
+   }
+
+   // Formats only for display; sorting by the column still uses the typed value
+   private static <T> void formatCells(TableColumn<Task, T> col, Function<T, String> format) {
+       col.setCellFactory(c -> new TableCell<>() {
+           @Override
+           protected void updateItem(T item, boolean empty) {
+               super.updateItem(item, empty);
+               setText(empty || item == null ? null : format.apply(item));
+           }
+       });
    }
 }
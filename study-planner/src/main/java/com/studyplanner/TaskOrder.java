@@ -0,0 +1,44 @@
+package com.studyplanner;
+
+import java.util.Comparator;
+
+/**
+ * Orderings for the task tables, built only on the primitive sort keys Task
+ * precomputes, so a comparison never looks anything up or boxes.
+ *
+ * Each ordering breaks ties on the other keys and finally on id, so rows
+ * with equal primary keys keep a stable order between sorts. They are
+ * written out rather than chained with thenComparing, which measured about
+ * three times slower on 100k rows (see TaskSortBenchmark).
+ */
+final class TaskOrder {
+
+    private TaskOrder() { }
+
+    static final Comparator<Task> BY_DUE_DATE = (a, b) -> {
+        int c = Long.compare(a.getDueEpochDay(), b.getDueEpochDay());
+        if (c == 0) c = Integer.compare(a.getPriorityRank(), b.getPriorityRank());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    static final Comparator<Task> BY_PRIORITY = (a, b) -> {
+        int c = Integer.compare(a.getPriorityRank(), b.getPriorityRank());
+        if (c == 0) c = Long.compare(a.getDueEpochDay(), b.getDueEpochDay());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    static final Comparator<Task> BY_COMPLEXITY = (a, b) -> {
+        int c = Integer.compare(a.getComplexity(), b.getComplexity());
+        if (c == 0) c = Long.compare(a.getDueEpochDay(), b.getDueEpochDay());
+        return c != 0 ? c : Long.compare(a.getId(), b.getId());
+    };
+
+    /** The ordering for a "Sort by" choice; due date for anything unknown. */
+    static Comparator<Task> forChoice(String choice) {
+        return switch (choice) {
+            case "Priority" -> BY_PRIORITY;
+            case "Complexity" -> BY_COMPLEXITY;
+            default -> BY_DUE_DATE;
+        };
+    }
+}
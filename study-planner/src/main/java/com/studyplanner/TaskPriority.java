@@ -0,0 +1,50 @@
+package com.studyplanner;
+
+/**
+ * How urgent a task is. Declared most urgent first, so the natural order is
+ * the sort order; {@link #code()} is what TaskDB stores.
+ */
+public enum TaskPriority {
+    HIGH("High", 0),
+    MEDIUM("Medium", 1),
+    LOW("Low", 2);
+
+    private static final TaskPriority[] BY_CODE = values();
+
+    private final String label;
+    private final int code;
+
+    TaskPriority(String label, int code) {
+        this.label = label;
+        this.code = code;
+    }
+
+    /** The name shown in the UI: "High", "Medium" or "Low". */
+    public String label() { return label; }
+
+    /** The INTEGER stored in the tasks table. */
+    public int code() { return code; }
+
+    @Override
+    public String toString() { return label; }
+
+    /** Parses a UI label; null stays null, anything else unknown is rejected. */
+    public static TaskPriority fromLabel(String label) {
+        if (label == null) return null;
+        return switch (label) {
+            case "High" -> HIGH;
+            case "Medium" -> MEDIUM;
+            case "Low" -> LOW;
+            default -> throw new IllegalArgumentException("Unknown priority: " + label);
+        };
+    }
+
+    public static boolean isLabel(String label) {
+        return label != null && (label.equals("High") || label.equals("Medium") || label.equals("Low"));
+    }
+
+    public static TaskPriority fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) throw new IllegalArgumentException("Unknown priority code: " + code);
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,134 @@
+package com.studyplanner;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns rows of the {@code tasks} table into {@link Task} objects.
+ *
+ * Column positions are resolved once when the mapper is created, so each row
+ * is read by index. Temporal columns are read as the INTEGER epoch values
+ * described in {@link TaskSchema}; no strings are parsed. Priority codes
+ * become the enum directly, and each category id is looked up in the
+ * categories table once per mapper and cached as its dictionary code, so
+ * a row costs no string comparisons or name lookups.
+ */
+final class TaskRowMapper {
+
+    private static final Duration DEFAULT_DURATION = Duration.ofMinutes(30);
+
+    private final int id;
+    private final int title;
+    private final int date;
+    private final int completed;
+    private final int priority;
+    private final int complexity;
+    private final int category;
+    private final int notes;
+    private final int createdAt;
+    private final int startTime;
+    private final int durationSeconds;
+    private final int timerEnabled;
+
+    // Dictionary code by categories.id. Ids are autoincrement values, so
+    // nearly all fit the array and a row costs one array read
+    private static final int SMALL_IDS = 1024;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    private final int[] smallCodes = new int[SMALL_IDS];
+    private final Map<Long, Integer> otherCodes = new HashMap<>();
+
+    TaskRowMapper(ResultSet rs) throws SQLException {
+        id = rs.findColumn("id");
+        title = rs.findColumn("title");
+        date = rs.findColumn("date");
+        completed = rs.findColumn("completed");
+        priority = rs.findColumn("priority");
+        complexity = rs.findColumn("complexity");
+        category = rs.findColumn("category");
+        notes = rs.findColumn("notes");
+        createdAt = rs.findColumn("createdAt");
+        startTime = rs.findColumn("startTime");
+        durationSeconds = rs.findColumn("durationSeconds");
+        timerEnabled = rs.findColumn("timerEnabled");
+        Arrays.fill(smallCodes, UNKNOWN);
+    }
+
+    /** Reads every remaining row of {@code rs}. */
+    static List<Task> mapAll(ResultSet rs) throws SQLException {
+        List<Task> tasks = new ArrayList<>();
+        TaskRowMapper mapper = new TaskRowMapper(rs);
+        while (rs.next()) {
+            tasks.add(mapper.map(rs));
+        }
+        return tasks;
+    }
+
+    /** Maps the current row of {@code rs}. */
+    Task map(ResultSet rs) throws SQLException {
+        // For older rows the timer columns may be NULL: getLong/getInt give 0
+        LocalDateTime start = readDateTime(rs, startTime);
+        long durSecs = rs.getLong(durationSeconds);
+
+        Task t = new Task(
+            rs.getString(title),
+            readDate(rs, date),
+            rs.getInt(completed) != 0,
+            readPriority(rs),
+            rs.getInt(complexity),
+            readCategory(rs),
+            rs.getString(notes),
+            readDateTime(rs, createdAt),
+            start != null ? start : LocalDateTime.now(),
+            durSecs > 0 ? Duration.ofSeconds(durSecs) : DEFAULT_DURATION,
+            rs.getInt(timerEnabled) != 0
+        );
+        t.setId(rs.getLong(id));
+        return t;
+    }
+
+    private TaskPriority readPriority(ResultSet rs) throws SQLException {
+        int code = rs.getInt(priority);
+        return rs.wasNull() ? null : TaskPriority.fromCode(code);
+    }
+
+    private int readCategory(ResultSet rs) throws SQLException {
+        long categoryId = rs.getLong(category);
+        if (rs.wasNull()) return CategoryDictionary.NONE;
+        boolean small = categoryId >= 0 && categoryId < SMALL_IDS;
+        if (small && smallCodes[(int) categoryId] != UNKNOWN) return smallCodes[(int) categoryId];
+        Integer cached = small ? null : otherCodes.get(categoryId);
+        if (cached != null) return cached;
+
+        String name;
+        try (PreparedStatement ps = rs.getStatement().getConnection()
+                .prepareStatement("SELECT name FROM categories WHERE id = ?")) {
+            ps.setLong(1, categoryId);
+            try (ResultSet names = ps.executeQuery()) {
+                if (!names.next()) throw new SQLException("Unknown category id " + categoryId);
+                name = names.getString(1);
+            }
+        }
+        int code = CategoryDictionary.codeOf(name);
+        if (small) smallCodes[(int) categoryId] = code; else otherCodes.put(categoryId, code);
+        return code;
+    }
+
+    private static LocalDate readDate(ResultSet rs, int column) throws SQLException {
+        long epochDay = rs.getLong(column);
+        return rs.wasNull() ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static LocalDateTime readDateTime(ResultSet rs, int column) throws SQLException {
+        long epochSecond = rs.getLong(column);
+        return rs.wasNull() ? null : TaskSchema.dateTime(epochSecond);
+    }
+}
@@ -0,0 +1,195 @@
+package com.studyplanner;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Schema history of the {@code tasks} table and the storage format of its
+ * columns.
+ *
+ * Since version 2, {@code date} is stored as an INTEGER epoch day and
+ * {@code createdAt}/{@code startTime} as INTEGER epoch seconds (the local
+ * date-time read as UTC, to the second).
+ *
+ * Since version 3, {@code priority} is the INTEGER {@link TaskPriority#code()}
+ * and {@code category} the id of a row in the {@code categories} table.
+ */
+final class TaskSchema {
+
+    /** Last version that stores temporal columns as ISO text. */
+    static final int ISO_TEMPORAL_VERSION = 1;
+
+    /** Schema history, oldest first. Append new steps; never edit applied ones. */
+    static final SchemaMigrator MIGRATIONS = new SchemaMigrator(List.of(
+        new SchemaMigrator.Migration(1, "id primary key, timer columns and indexes",
+            TaskSchema::migrateToV1),
+        new SchemaMigrator.Migration(2, "epoch INTEGER storage for date, createdAt and startTime",
+            TaskSchema::migrateToV2, TaskSchema::revertV2),
+        new SchemaMigrator.Migration(3, "INTEGER codes for priority and category",
+            TaskSchema::migrateToV3, TaskSchema::revertV3)
+    ));
+
+    private static final String V1_COLUMNS = """
+        id INTEGER PRIMARY KEY,
+        title TEXT,
+        date TEXT,
+        completed INTEGER,
+        priority TEXT,
+        complexity INTEGER,
+        category TEXT,
+        notes TEXT,
+        createdAt TEXT,
+        startTime TEXT,
+        durationSeconds INTEGER,
+        timerEnabled INTEGER
+    """;
+
+    private static final String V2_COLUMNS = """
+        id INTEGER PRIMARY KEY,
+        title TEXT,
+        date INTEGER,
+        completed INTEGER,
+        priority TEXT,
+        complexity INTEGER,
+        category TEXT,
+        notes TEXT,
+        createdAt INTEGER,
+        startTime INTEGER,
+        durationSeconds INTEGER,
+        timerEnabled INTEGER
+    """;
+
+    private static final String V3_COLUMNS = """
+        id INTEGER PRIMARY KEY,
+        title TEXT,
+        date INTEGER,
+        completed INTEGER,
+        priority INTEGER,
+        complexity INTEGER,
+        category INTEGER REFERENCES categories(id),
+        notes TEXT,
+        createdAt INTEGER,
+        startTime INTEGER,
+        durationSeconds INTEGER,
+        timerEnabled INTEGER
+    """;
+
+    private TaskSchema() { }
+
+    static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime dateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Version 1: tasks gets an {@code id INTEGER PRIMARY KEY}, the timer
+     * columns and its secondary indexes.
+     *
+     * Tables from before ids existed are rebuilt inside SQLite with their
+     * implicit rowid as the id, so nothing has to be reloaded through the app.
+     * Timer columns that the old table never got are filled with NULL.
+     */
+    static void migrateToV1(Connection conn) throws SQLException {
+        if (!SchemaMigrator.tableExists(conn, "tasks")) {
+            SchemaMigrator.execute(conn, "CREATE TABLE tasks (" + V1_COLUMNS + ")");
+            createIndexes(conn);
+            return;
+        }
+        if (SchemaMigrator.hasColumn(conn, "tasks", "id")) {
+            createIndexes(conn);
+            return;
+        }
+
+        String startTime = SchemaMigrator.hasColumn(conn, "tasks", "startTime") ? "startTime" : "NULL";
+        String duration = SchemaMigrator.hasColumn(conn, "tasks", "durationSeconds") ? "durationSeconds" : "NULL";
+        String timer = SchemaMigrator.hasColumn(conn, "tasks", "timerEnabled") ? "timerEnabled" : "NULL";
+        rebuildTasks(conn, V1_COLUMNS, """
+            rowid, title, date, completed, priority, complexity,
+            category, notes, createdAt,
+            %s, %s, %s
+        """.formatted(startTime, duration, timer));
+    }
+
+    /** Version 2: ISO text dates and date-times become INTEGER epoch values. */
+    static void migrateToV2(Connection conn) throws SQLException {
+        rebuildTasks(conn, V2_COLUMNS, """
+            id, title,
+            CAST(ROUND(julianday(date) - 2440587.5) AS INTEGER),
+            completed, priority, complexity, category, notes,
+            CAST(strftime('%s', createdAt) AS INTEGER),
+            CAST(strftime('%s', startTime) AS INTEGER),
+            durationSeconds, timerEnabled
+        """);
+    }
+
+    /** Undoes version 2, writing ISO text back for older builds. */
+    static void revertV2(Connection conn) throws SQLException {
+        rebuildTasks(conn, V1_COLUMNS, """
+            id, title,
+            date(date * 86400, 'unixepoch'),
+            completed, priority, complexity, category, notes,
+            strftime('%Y-%m-%dT%H:%M:%S', createdAt, 'unixepoch'),
+            strftime('%Y-%m-%dT%H:%M:%S', startTime, 'unixepoch'),
+            durationSeconds, timerEnabled
+        """);
+    }
+
+    /**
+     * Version 3: priority becomes its TaskPriority code and category the id
+     * of a new categories row, one per distinct name. Priorities that were
+     * never High, Medium or Low (the old UI did not check) become Medium.
+     */
+    static void migrateToV3(Connection conn) throws SQLException {
+        SchemaMigrator.execute(conn, "CREATE TABLE categories (id INTEGER PRIMARY KEY, name TEXT NOT NULL UNIQUE)");
+        SchemaMigrator.execute(conn, """
+            INSERT INTO categories (name)
+            SELECT DISTINCT category FROM tasks WHERE category IS NOT NULL ORDER BY category
+        """);
+        rebuildTasks(conn, V3_COLUMNS, """
+            id, title, date, completed,
+            CASE WHEN priority IS NULL THEN NULL
+                 WHEN lower(trim(priority)) = 'high' THEN %d
+                 WHEN lower(trim(priority)) = 'low' THEN %d
+                 ELSE %d END,
+            complexity,
+            (SELECT c.id FROM categories c WHERE c.name = tasks.category),
+            notes, createdAt, startTime, durationSeconds, timerEnabled
+        """.formatted(TaskPriority.HIGH.code(), TaskPriority.LOW.code(), TaskPriority.MEDIUM.code()));
+    }
+
+    /** Undoes version 3, writing priority labels and category names back. */
+    static void revertV3(Connection conn) throws SQLException {
+        rebuildTasks(conn, V2_COLUMNS, """
+            id, title, date, completed,
+            CASE priority WHEN %d THEN 'High' WHEN %d THEN 'Medium' WHEN %d THEN 'Low' END,
+            complexity,
+            (SELECT c.name FROM categories c WHERE c.id = tasks.category),
+            notes, createdAt, startTime, durationSeconds, timerEnabled
+        """.formatted(TaskPriority.HIGH.code(), TaskPriority.MEDIUM.code(), TaskPriority.LOW.code()));
+        SchemaMigrator.execute(conn, "DROP TABLE categories");
+    }
+
+    /**
+     * Replaces tasks with a table of the given shape, filled from
+     * {@code SELECT <select> FROM tasks}. Runs inside the caller's transaction.
+     */
+    private static void rebuildTasks(Connection conn, String columns, String select) throws SQLException {
+        SchemaMigrator.execute(conn, "CREATE TABLE tasks_new (" + columns + ")");
+        SchemaMigrator.execute(conn, "INSERT INTO tasks_new SELECT " + select + " FROM tasks");
+        SchemaMigrator.execute(conn, "DROP TABLE tasks");
+        SchemaMigrator.execute(conn, "ALTER TABLE tasks_new RENAME TO tasks");
+        createIndexes(conn);
+    }
+
+    private static void createIndexes(Connection conn) throws SQLException {
+        SchemaMigrator.execute(conn, "CREATE INDEX IF NOT EXISTS idx_tasks_date ON tasks(date)");
+        SchemaMigrator.execute(conn, "CREATE INDEX IF NOT EXISTS idx_tasks_completed_date ON tasks(completed, date)");
+        SchemaMigrator.execute(conn, "CREATE INDEX IF NOT EXISTS idx_tasks_priority ON tasks(priority)");
+    }
+}
@@ -0,0 +1,378 @@
+package com.studyplanner;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the tasks the UI shows.
+ *
+ * Besides the tasks of each date, the store keeps ongoing and completed sets
+ * and per-priority and per-category buckets. Adding or removing a task, and
+ * the Task setters that move it between buckets, update these in O(1), so
+ * nothing has to rescan every task. Listeners get each change as a delta.
+ * Stored tasks are also indexed by database id, so a row read again from
+ * the database, e.g. by a load running while the task is edited, is not
+ * added as a second task.
+ *
+ * Dates are kept in a sorted map keyed by epoch day, so a month or the next
+ * few days are a sub-map slice: O(log n) to find plus the tasks returned.
+ *
+ * The store is thread-safe. Changes to one task are serialized on that task;
+ * changes to different tasks run in parallel, and only writers touching the
+ * same day briefly share that day's lock. Single reads such as
+ * {@link #ongoing()} are weakly consistent; {@link #snapshot()} gives both
+ * task lists as of one instant.
+ */
+public class TaskStore {
+
+    public enum Change { ADDED, REMOVED, COMPLETED, REOPENED, EDITED }
+
+    /**
+     * Called on the thread that made the change, in order for any one task.
+     * Must not block; hand UI work to the FX thread.
+     */
+    public interface Listener {
+        void taskChanged(Task task, Change change);
+    }
+
+    /** Ongoing and completed tasks at one point in time. */
+    public record Snapshot(List<Task> ongoing, List<Task> completed) { }
+
+    private final ConcurrentNavigableMap<Long, DayTasks> byDay = new ConcurrentSkipListMap<>();
+    private final Set<Task> ongoing = ConcurrentHashMap.newKeySet();
+    private final Set<Task> completed = ConcurrentHashMap.newKeySet();
+    private final Map<TaskPriority, Set<Task>> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<Integer, Set<Task>> byCategory = new ConcurrentHashMap<>();
+    private final Map<Long, Task> byId = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Writers share the read side, so they never wait for each other;
+    // snapshot() takes the write side to see no change half done.
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final Lock writers = snapshotLock.readLock();
+
+    private final Map<LocalDate, List<Task>> byDateView = Collections.unmodifiableMap(new ByDateView());
+
+    public TaskStore() {
+        // Fixed keys, filled once, so the EnumMap itself is never written again
+        for (TaskPriority p : TaskPriority.values()) byPriority.put(p, ConcurrentHashMap.newKeySet());
+    }
+
+    public void addListener(Listener l) { listeners.add(l); }
+    public void removeListener(Listener l) { listeners.remove(l); }
+
+    /** Adds {@code t}; returns false if it, or another task with its database id, is already in this store. */
+    public boolean add(Task t) {
+        synchronized (t) {
+            if (t.store == this) return false;
+            long id = t.getId();
+            if (id > 0 && byId.putIfAbsent(id, t) != null) return false;
+            if (t.store != null) t.store.remove(t);
+            writers.lock();
+            try {
+                t.store = this;
+                addToDay(t);
+                (t.isCompleted() ? completed : ongoing).add(t);
+                addToPriority(t, t.getPriorityLevel());
+                bucket(byCategory, t.getCategoryCode()).add(t);
+            } finally {
+                writers.unlock();
+            }
+            fire(t, Change.ADDED);
+            return true;
+        }
+    }
+
+    public void addAll(Collection<Task> tasks) {
+        for (Task t : tasks) add(t);
+    }
+
+    public boolean remove(Task t) {
+        synchronized (t) {
+            if (t.store != this) return false;
+            if (t.getId() > 0) byId.remove(t.getId(), t);
+            writers.lock();
+            try {
+                t.store = null;
+                removeFromDay(t);
+                ongoing.remove(t);
+                completed.remove(t);
+                removeFromPriority(t, t.getPriorityLevel());
+                unbucket(byCategory, t.getCategoryCode(), t);
+            } finally {
+                writers.unlock();
+            }
+            fire(t, Change.REMOVED);
+            return true;
+        }
+    }
+
+    public void clear() {
+        for (Task t : ongoing) remove(t);
+        for (Task t : completed) remove(t);
+    }
+
+    public boolean contains(Task t) { return t.store == this; }
+
+    /** Whether a task with database id {@code id} is in this store. */
+    public boolean containsId(long id) { return byId.containsKey(id); }
+
+    public int size() { return ongoing.size() + completed.size(); }
+
+    /** Tasks due on {@code date}, in insertion order. */
+    public List<Task> tasksOn(LocalDate date) {
+        DayTasks day = byDay.get(date.toEpochDay());
+        return day == null ? List.of() : day.copy();
+    }
+
+    /** Tasks due from {@code from} to {@code to} inclusive, ordered by date. */
+    public List<Task> between(LocalDate from, LocalDate to) {
+        return flatten(byDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true));
+    }
+
+    /** Tasks due in the {@code days} days starting at {@code from}. */
+    public List<Task> upcoming(LocalDate from, int days) {
+        if (days <= 0) return List.of();
+        return between(from, from.plusDays(days - 1));
+    }
+
+    /** Ongoing tasks due before {@code today}, oldest first. */
+    public List<Task> overdue(LocalDate today) {
+        List<Task> result = new ArrayList<>();
+        for (Task t : flatten(byDay.headMap(today.toEpochDay(), false))) {
+            if (!t.isCompleted()) result.add(t);
+        }
+        return result;
+    }
+
+    /** Number of tasks on each date in the range that has any. */
+    public Map<LocalDate, Integer> countByDate(LocalDate from, LocalDate to) {
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        byDay.subMap(from.toEpochDay(), true, to.toEpochDay(), true).forEach((day, dayTasks) -> {
+            int n = dayTasks.size();
+            if (n > 0) counts.put(LocalDate.ofEpochDay(day), n);
+        });
+        return counts;
+    }
+
+    /** Earliest and latest due dates, or null when empty. */
+    public LocalDate firstDate() {
+        Map.Entry<Long, DayTasks> first = byDay.firstEntry();
+        return first == null ? null : LocalDate.ofEpochDay(first.getKey());
+    }
+
+    public LocalDate lastDate() {
+        Map.Entry<Long, DayTasks> last = byDay.lastEntry();
+        return last == null ? null : LocalDate.ofEpochDay(last.getKey());
+    }
+
+    public List<Task> ongoing() { return new ArrayList<>(ongoing); }
+    public List<Task> completed() { return new ArrayList<>(completed); }
+
+    /** Both task lists, with no change caught half way and no task in both. */
+    public Snapshot snapshot() {
+        Lock exclusive = snapshotLock.writeLock();
+        exclusive.lock();
+        try {
+            return new Snapshot(List.copyOf(ongoing), List.copyOf(completed));
+        } finally {
+            exclusive.unlock();
+        }
+    }
+
+    public Set<Task> withPriority(TaskPriority priority) {
+        return Set.copyOf(byPriority.get(priority));
+    }
+
+    public Set<Task> inCategory(String category) {
+        return Set.copyOf(byCategory.getOrDefault(CategoryDictionary.find(category), Set.of()));
+    }
+
+    /**
+     * Tasks grouped by date in date order, as a live read-only map. Every
+     * write, {@code computeIfAbsent} included, throws
+     * UnsupportedOperationException, as does changing a list it hands out;
+     * change tasks through {@link #add} and {@link #remove}.
+     */
+    public Map<LocalDate, List<Task>> byDate() { return byDateView; }
+
+    // --- Called from Task setters, holding the task's lock, while it is in this store ---
+
+    void completionChanged(Task t) {
+        writers.lock();
+        try {
+            if (t.isCompleted()) {
+                ongoing.remove(t);
+                completed.add(t);
+            } else {
+                completed.remove(t);
+                ongoing.add(t);
+            }
+        } finally {
+            writers.unlock();
+        }
+        fire(t, t.isCompleted() ? Change.COMPLETED : Change.REOPENED);
+    }
+
+    void priorityChanged(Task t, TaskPriority oldPriority) {
+        writers.lock();
+        try {
+            removeFromPriority(t, oldPriority);
+            addToPriority(t, t.getPriorityLevel());
+        } finally {
+            writers.unlock();
+        }
+        fire(t, Change.EDITED);
+    }
+
+    void categoryChanged(Task t, int oldCategory) {
+        writers.lock();
+        try {
+            unbucket(byCategory, oldCategory, t);
+            bucket(byCategory, t.getCategoryCode()).add(t);
+        } finally {
+            writers.unlock();
+        }
+        fire(t, Change.EDITED);
+    }
+
+    void edited(Task t) {
+        fire(t, Change.EDITED);
+    }
+
+    /** Re-indexes {@code t} after it was saved and given its database id. */
+    void idChanged(Task t, long oldId) {
+        if (oldId > 0) byId.remove(oldId, t);
+        if (t.getId() > 0) byId.putIfAbsent(t.getId(), t);
+    }
+
+    private void addToDay(Task t) {
+        long day = t.getDate().toEpochDay();
+        while (true) {
+            DayTasks dayTasks = byDay.computeIfAbsent(day, d -> new DayTasks());
+            if (dayTasks.add(t)) return;
+            // Emptied by a concurrent remove; replace it
+            byDay.remove(day, dayTasks);
+        }
+    }
+
+    private void removeFromDay(Task t) {
+        long day = t.getDate().toEpochDay();
+        DayTasks dayTasks = byDay.get(day);
+        if (dayTasks != null && dayTasks.remove(t)) byDay.remove(day, dayTasks);
+    }
+
+    private static List<Task> flatten(Map<Long, DayTasks> days) {
+        List<Task> result = new ArrayList<>();
+        for (DayTasks dayTasks : days.values()) dayTasks.copyInto(result);
+        return result;
+    }
+
+    private void addToPriority(Task t, TaskPriority priority) {
+        if (priority != null) byPriority.get(priority).add(t);
+    }
+
+    private void removeFromPriority(Task t, TaskPriority priority) {
+        if (priority != null) byPriority.get(priority).remove(t);
+    }
+
+    private static Set<Task> bucket(Map<Integer, Set<Task>> buckets, int key) {
+        return buckets.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet());
+    }
+
+    // Empty buckets are left in place; dropping them would race with adds
+    private static void unbucket(Map<Integer, Set<Task>> buckets, int key, Task t) {
+        Set<Task> bucket = buckets.get(key);
+        if (bucket != null) bucket.remove(t);
+    }
+
+    private void fire(Task t, Change change) {
+        for (Listener l : listeners) l.taskChanged(t, change);
+    }
+
+    /**
+     * The tasks of one day, guarded by its own lock. Once emptied it is
+     * retired and refuses adds, so it can be dropped from the map without
+     * losing a task added at the same moment.
+     */
+    private static final class DayTasks {
+        private final List<Task> tasks = new ArrayList<>(2);
+        private boolean retired;
+
+        synchronized boolean add(Task t) {
+            if (retired) return false;
+            tasks.add(t);
+            return true;
+        }
+
+        /** Returns true if this emptied the day. */
+        synchronized boolean remove(Task t) {
+            tasks.remove(t);
+            if (tasks.isEmpty()) retired = true;
+            return retired;
+        }
+
+        synchronized int size() { return tasks.size(); }
+
+        synchronized List<Task> copy() { return List.copyOf(tasks); }
+
+        synchronized void copyInto(List<Task> target) { target.addAll(tasks); }
+    }
+
+    private class ByDateView extends AbstractMap<LocalDate, List<Task>> {
+
+        @Override
+        public List<Task> get(Object key) {
+            if (!(key instanceof LocalDate date)) return null;
+            List<Task> dayTasks = tasksOn(date);
+            return dayTasks.isEmpty() ? null : dayTasks;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof LocalDate date && !tasksOn(date).isEmpty();
+        }
+
+        @Override
+        public int size() { return byDay.size(); }
+
+        @Override
+        public Set<Entry<LocalDate, List<Task>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<LocalDate, List<Task>>> iterator() {
+                    Iterator<Entry<Long, DayTasks>> it = byDay.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() { return it.hasNext(); }
+
+                        @Override
+                        public Entry<LocalDate, List<Task>> next() {
+                            Entry<Long, DayTasks> e = it.next();
+                            return new SimpleImmutableEntry<>(LocalDate.ofEpochDay(e.getKey()), e.getValue().copy());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() { return byDay.size(); }
+            };
+        }
+    }
+}
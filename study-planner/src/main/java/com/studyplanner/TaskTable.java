@@ -0,0 +1,173 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Column-oriented copy of task data for reports over many tasks.
+ *
+ * Each field lives in its own primitive array, indexed by row: epoch day and
+ * complexity as ints, start time and duration as longs, priority and
+ * category as their codes, completion as a bitset. A scan touches only the
+ * columns it reads, in memory order, and no LocalDate, LocalDateTime or
+ * Duration is allocated. Titles and notes are not kept.
+ *
+ * The table is a snapshot: later changes to the tasks it was built from are
+ * not reflected. It is not thread-safe while rows are being appended, but
+ * once built it can be scanned from any number of threads.
+ */
+public final class TaskTable {
+
+    /** Epoch day of a task without a date. */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+    /** Start of a task without a start time. */
+    public static final long NO_START = Long.MIN_VALUE;
+    /** Priority code of a task without a priority. */
+    public static final byte NO_PRIORITY = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private long[] ids;
+    private int[] epochDays;
+    private int[] complexities;
+    private byte[] priorities;
+    private int[] categories;
+    private long[] starts;     // epoch seconds, local time read as UTC like TaskSchema
+    private long[] durations;  // seconds
+    private final BitSet completed = new BitSet();
+
+    public TaskTable() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public TaskTable(int capacity) {
+        int n = Math.max(capacity, 1);
+        ids = new long[n];
+        epochDays = new int[n];
+        complexities = new int[n];
+        priorities = new byte[n];
+        categories = new int[n];
+        starts = new long[n];
+        durations = new long[n];
+    }
+
+    public static TaskTable of(Collection<Task> tasks) {
+        TaskTable table = new TaskTable(tasks.size());
+        for (Task t : tasks) table.add(t);
+        return table;
+    }
+
+    /** Appends a row holding {@code t}'s current values; returns its row number. */
+    public int add(Task t) {
+        if (size == ids.length) grow();
+        int row = size++;
+        LocalDate date = t.getDate();
+        LocalDateTime start = t.getStartTime();
+        Duration duration = t.getDuration();
+        TaskPriority priority = t.getPriorityLevel();
+
+        ids[row] = t.getId();
+        epochDays[row] = date == null ? NO_DATE : Math.toIntExact(date.toEpochDay());
+        complexities[row] = t.getComplexity();
+        priorities[row] = priority == null ? NO_PRIORITY : (byte) priority.code();
+        categories[row] = t.getCategoryCode();
+        starts[row] = start == null ? NO_START : TaskSchema.epochSecond(start);
+        durations[row] = duration == null ? 0 : duration.getSeconds();
+        completed.set(row, t.isCompleted());
+        return row;
+    }
+
+    private void grow() {
+        int n = ids.length + (ids.length >> 1) + 1;
+        ids = Arrays.copyOf(ids, n);
+        epochDays = Arrays.copyOf(epochDays, n);
+        complexities = Arrays.copyOf(complexities, n);
+        priorities = Arrays.copyOf(priorities, n);
+        categories = Arrays.copyOf(categories, n);
+        starts = Arrays.copyOf(starts, n);
+        durations = Arrays.copyOf(durations, n);
+    }
+
+    public int size() { return size; }
+
+    // --- Column access by row ---
+
+    public long id(int row) { return ids[check(row)]; }
+    public int epochDay(int row) { return epochDays[check(row)]; }
+    public int complexity(int row) { return complexities[check(row)]; }
+    public byte priorityCode(int row) { return priorities[check(row)]; }
+    public int categoryCode(int row) { return categories[check(row)]; }
+    public String category(int row) { return CategoryDictionary.nameOf(categories[check(row)]); }
+    public long startEpochSecond(int row) { return starts[check(row)]; }
+    public long durationSeconds(int row) { return durations[check(row)]; }
+    public boolean isCompleted(int row) { return completed.get(check(row)); }
+
+    private int check(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        return row;
+    }
+
+    // --- Scans ---
+
+    /** Calls {@code action} with every row number, in order. */
+    public void scan(IntConsumer action) {
+        for (int row = 0; row < size; row++) action.accept(row);
+    }
+
+    /** Calls {@code action} with every row dated from {@code from} to {@code to} inclusive. */
+    public void scan(LocalDate from, LocalDate to, IntConsumer action) {
+        long lo = from.toEpochDay();
+        long hi = to.toEpochDay();
+        int[] days = epochDays;
+        for (int row = 0; row < size; row++) {
+            int day = days[row];
+            if (day != NO_DATE && day >= lo && day <= hi) action.accept(row);
+        }
+    }
+
+    /**
+     * Planned seconds of work per day from {@code from} to {@code to}
+     * inclusive: element {@code i} is the total duration of tasks due on
+     * {@code from.plusDays(i)}.
+     */
+    public long[] durationPerDay(LocalDate from, LocalDate to) {
+        long lo = from.toEpochDay();
+        long hi = to.toEpochDay();
+        if (hi < lo) return new long[0];
+        long[] totals = new long[Math.toIntExact(hi - lo + 1)];
+        int[] days = epochDays;
+        long[] secs = durations;
+        for (int row = 0; row < size; row++) {
+            int day = days[row];
+            if (day != NO_DATE && day >= lo && day <= hi) totals[(int) (day - lo)] += secs[row];
+        }
+        return totals;
+    }
+
+    /** Completed fraction of the tasks in each category, keyed by name; tasks without one are skipped. */
+    public Map<String, Double> completionRateByCategory() {
+        int codes = CategoryDictionary.size();
+        int[] total = new int[codes];
+        int[] done = new int[codes];
+        int[] cats = categories;
+        for (int row = 0; row < size; row++) {
+            int c = cats[row];
+            if (c == CategoryDictionary.NONE) continue;
+            total[c]++;
+            if (completed.get(row)) done[c]++;
+        }
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (int c = 0; c < codes; c++) {
+            if (total[c] > 0) rates.put(CategoryDictionary.nameOf(c), (double) done[c] / total[c]);
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,85 @@
+package com.studyplanner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a {@link ReminderEngine} in line with the start times of
+ * timer-enabled tasks.
+ *
+ * {@link #update} decides from the task itself: an ongoing, timer-enabled
+ * task with a start time is (re)scheduled, anything else is cancelled, and
+ * a start that already fired is not fired again. The engine may have other
+ * sinks and is normally built and started by the caller; the
+ * package-private constructors that add a sink handing due tasks to
+ * {@code onStart} on {@code dispatch} are for tests and benchmarks.
+ */
+public final class TaskTimerScheduler implements AutoCloseable {
+
+    private final ReminderEngine<Task> engine;
+
+    TaskTimerScheduler(Executor dispatch, Consumer<Task> onStart) {
+        this(Clock.systemDefaultZone(), dispatch, onStart);
+    }
+
+    TaskTimerScheduler(Clock clock, Executor dispatch, Consumer<Task> onStart) {
+        this(new ReminderEngine<>(clock));
+        engine.addSink(batch -> dispatch.execute(() -> batch.forEach(r -> onStart.accept(r.subject()))));
+        engine.start();
+    }
+
+    /** Feeds {@code engine}, which the caller subscribes to and starts. */
+    public TaskTimerScheduler(ReminderEngine<Task> engine) {
+        this.engine = engine;
+    }
+
+    public ReminderEngine<Task> engine() {
+        return engine;
+    }
+
+    /** Brings {@code t}'s reminder in line with its current fields. */
+    public void update(Task t) {
+        if (!t.isTimerEnabled() || t.isCompleted() || t.getStartTime() == null) {
+            cancel(t);
+            return;
+        }
+        schedule(t, t.getStartTime());
+    }
+
+    /** Fires {@code t} at {@code start}, replacing any earlier reminder; a start already fired is not repeated. */
+    public void schedule(Task t, LocalDateTime start) {
+        engine.schedule(t, instant(start, engine.clock()));
+    }
+
+    /** Treats {@code t}'s current start as already fired, so loading it does not fire it. */
+    public void acknowledge(Task t) {
+        if (t.getStartTime() != null) engine.acknowledge(t, instant(t.getStartTime(), engine.clock()));
+    }
+
+    public void cancel(Task t) {
+        engine.cancel(t);
+    }
+
+    /** Starts still waiting to fire. */
+    public int pending() {
+        return engine.pending();
+    }
+
+    /** Whole seconds from {@code clock}'s now until {@code t}'s start; negative once it has passed. */
+    public static long delaySeconds(Task t, Clock clock) {
+        return Duration.between(clock.instant(), instant(t.getStartTime(), clock)).getSeconds();
+    }
+
+    static Instant instant(LocalDateTime local, Clock clock) {
+        return local.atZone(clock.getZone()).toInstant();
+    }
+
+    @Override
+    public void close() {
+        engine.close();
+    }
+}
@@ -0,0 +1,68 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Catch-up for timers whose start passed while the app was closed.
+ *
+ * {@link #plan} sorts the loaded timers by start and walks them once,
+ * splitting them into those that already ended (missed), those still
+ * inside their window (running, with the time they have left) and those
+ * yet to start. The app acknowledges the first two so they do not fire as
+ * fresh starts, announces all missed timers in one summary and resumes the
+ * running ones where they would be now. The summary names at most
+ * {@link #SUMMARY_LIMIT} tasks, so catching up after any downtime opens one
+ * alert and costs one sort.
+ */
+final class TimerRecovery {
+
+    static final int SUMMARY_LIMIT = 10;
+
+    /** A timer already underway, with {@code remaining} left to run. */
+    record Running(Task task, Duration remaining) { }
+
+    /** Loaded timers split by where their window lies relative to now; each list in start order. */
+    record Plan(List<Task> missed, List<Running> running, List<Task> future) {
+
+        /** One message naming the missed timers, the earliest {@link #SUMMARY_LIMIT} of them by name. */
+        String missedSummary() {
+            StringBuilder message = new StringBuilder("Missed " + missed.size()
+                + (missed.size() == 1 ? " timer" : " timers") + " while the planner was closed:");
+            int shown = Math.min(missed.size(), SUMMARY_LIMIT);
+            for (int i = 0; i < shown; i++) {
+                Task t = missed.get(i);
+                message.append("\n").append(t.getTitle()).append(" at ").append(t.getStartTime());
+            }
+            if (missed.size() > shown) message.append("\n…and ").append(missed.size() - shown).append(" more");
+            return message.toString();
+        }
+    }
+
+    private TimerRecovery() { }
+
+    /** Splits the ongoing, timer-enabled tasks among {@code tasks} around {@code now}; others are ignored. */
+    static Plan plan(Collection<Task> tasks, LocalDateTime now) {
+        List<Task> timers = new ArrayList<>();
+        for (Task t : tasks) {
+            if (t.isTimerEnabled() && !t.isCompleted() && t.getStartTime() != null) timers.add(t);
+        }
+        timers.sort(Comparator.comparing(Task::getStartTime));
+
+        List<Task> missed = new ArrayList<>();
+        List<Running> running = new ArrayList<>();
+        int i = 0;
+        // Started timers are a prefix in start order; the rest are all future
+        for (; i < timers.size() && !timers.get(i).getStartTime().isAfter(now); i++) {
+            Task t = timers.get(i);
+            LocalDateTime end = t.getStartTime().plus(t.getDuration());
+            if (end.isAfter(now)) running.add(new Running(t, Duration.between(now, end)));
+            else missed.add(t);
+        }
+        return new Plan(missed, running, timers.subList(i, timers.size()));
+    }
+}
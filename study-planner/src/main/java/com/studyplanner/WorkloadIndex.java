@@ -0,0 +1,222 @@
+package com.studyplanner;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Running workload totals over the tasks of a {@link TaskStore}: how many
+ * tasks, how many are done, how much time they plan and how heavy they are,
+ * per day, per week or any date range, and per category.
+ *
+ * Totals are kept up to date from the store's change deltas; each change
+ * costs O(log 256) in its block's trees, and nothing is ever rescanned.
+ * Days are stored sparsely in blocks of {@link #BLOCK_DAYS} consecutive
+ * days, created only where tasks fall, so a task dated far in the future
+ * costs one block rather than every day in between. Each block keeps
+ * Fenwick trees over its days plus its totals. A range query, a week
+ * included, reads the trees of its two end blocks and the totals of the
+ * stored blocks in between: O(blocks spanned · log 256), not O(log n) in
+ * the number of days.
+ *
+ * There is no global lock, so the index keeps up with the store's
+ * parallel writers: a change takes only the task's own monitor, which the
+ * store already holds while it calls listeners, and the locks of the one
+ * block and one category it touches. A block emptied of tasks is retired
+ * under its lock before it leaves the map, as the store does with its
+ * days. Like the store's single reads, a range spanning several blocks is
+ * weakly consistent.
+ *
+ * Weighted complexity is complexity times a priority weight: 3 for High,
+ * 2 for Medium, 1 for Low or none.
+ */
+public final class WorkloadIndex {
+
+    /** Totals over some set of tasks. */
+    public record Totals(int tasks, int completed, long durationSeconds, long weightedComplexity) {
+
+        public static final Totals EMPTY = new Totals(0, 0, 0, 0);
+
+        /** Fraction of the tasks that are completed; 0 when there are none. */
+        public double completionRatio() {
+            return tasks == 0 ? 0 : (double) completed / tasks;
+        }
+
+        public Duration duration() {
+            return Duration.ofSeconds(durationSeconds);
+        }
+    }
+
+    // What one task currently adds to the totals, so it can be taken back out
+    private record Contribution(LocalDate date, int category, boolean completed, long seconds, long weight) { }
+
+    private static final int COUNT = 0, COMPLETED = 1, SECONDS = 2, WEIGHT = 3, FIELDS = 4;
+    static final int BLOCK_DAYS = 256;
+
+    /** BLOCK_DAYS consecutive days: plain values, Fenwick sums over them, and their totals. Guarded by itself. */
+    private static final class Block {
+        boolean retired;
+        final long[][] perDay = new long[FIELDS][BLOCK_DAYS];
+        final long[][] tree = new long[FIELDS][BLOCK_DAYS + 1];
+        final long[] total = new long[FIELDS];
+
+        void add(int slot, int field, long delta) {
+            perDay[field][slot] += delta;
+            total[field] += delta;
+            for (int i = slot + 1; i <= BLOCK_DAYS; i += i & -i) tree[field][i] += delta;
+        }
+
+        // Sum of slots 0..slot inclusive
+        long prefixSum(int field, int slot) {
+            long sum = 0;
+            for (int i = slot + 1; i > 0; i -= i & -i) sum += tree[field][i];
+            return sum;
+        }
+
+        long rangeSum(int field, int lo, int hi) {
+            return prefixSum(field, hi) - (lo == 0 ? 0 : prefixSum(field, lo - 1));
+        }
+    }
+
+    private final TaskStore store;
+
+    // Each task's entry is only touched under the task's monitor
+    private final Map<Task, Contribution> counted = new ConcurrentHashMap<>();
+    // Each category's sums are guarded by the array itself
+    private final Map<Integer, long[]> byCategory = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Block> blocks = new ConcurrentSkipListMap<>(); // by epochDay / BLOCK_DAYS
+
+    public WorkloadIndex(TaskStore store) {
+        this.store = store;
+        // Listen first so nothing is missed; refreshing a task twice is harmless
+        store.addListener((t, change) -> refresh(t));
+        TaskStore.Snapshot snapshot = store.snapshot();
+        snapshot.ongoing().forEach(this::refresh);
+        snapshot.completed().forEach(this::refresh);
+    }
+
+    /** Totals of the tasks due on {@code date}. */
+    public Totals day(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        Block b = blocks.get(blockOf(epochDay));
+        if (b == null) return Totals.EMPTY;
+        int s = slotOf(epochDay);
+        synchronized (b) {
+            return totals(b.perDay[COUNT][s], b.perDay[COMPLETED][s], b.perDay[SECONDS][s], b.perDay[WEIGHT][s]);
+        }
+    }
+
+    /** Totals of the tasks due from {@code from} to {@code to} inclusive. */
+    public Totals between(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) return Totals.EMPTY;
+        long lo = from.toEpochDay(), hi = to.toEpochDay();
+        long loBlock = blockOf(lo), hiBlock = blockOf(hi);
+        long[] sums = new long[FIELDS];
+        for (Map.Entry<Long, Block> e : blocks.subMap(loBlock, true, hiBlock, true).entrySet()) {
+            Block b = e.getValue();
+            long key = e.getKey();
+            // Whole blocks come from their totals; only the end blocks need their trees
+            int first = key == loBlock ? slotOf(lo) : 0;
+            int last = key == hiBlock ? slotOf(hi) : BLOCK_DAYS - 1;
+            boolean whole = first == 0 && last == BLOCK_DAYS - 1;
+            synchronized (b) {
+                for (int f = 0; f < FIELDS; f++) sums[f] += whole ? b.total[f] : b.rangeSum(f, first, last);
+            }
+        }
+        return totals(sums[COUNT], sums[COMPLETED], sums[SECONDS], sums[WEIGHT]);
+    }
+
+    /** Totals of the Monday-to-Sunday week containing {@code date}. */
+    public Totals week(LocalDate date) {
+        LocalDate monday = date.minusDays(date.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        return between(monday, monday.plusDays(6));
+    }
+
+    /** Totals of every task in {@code category}, whatever its date. */
+    public Totals category(String category) {
+        long[] sums = byCategory.get(CategoryDictionary.find(category));
+        if (sums == null) return Totals.EMPTY;
+        synchronized (sums) {
+            return totals(sums[COUNT], sums[COMPLETED], sums[SECONDS], sums[WEIGHT]);
+        }
+    }
+
+    private static Totals totals(long count, long completed, long seconds, long weight) {
+        return count == 0 ? Totals.EMPTY : new Totals((int) count, (int) completed, seconds, weight);
+    }
+
+    /** Takes {@code t}'s old contribution out and puts its current one in. */
+    private void refresh(Task t) {
+        synchronized (t) {
+            Contribution old = counted.remove(t);
+            if (old != null) apply(old, -1);
+            if (store.contains(t)) {
+                Contribution now = contributionOf(t);
+                counted.put(t, now);
+                apply(now, 1);
+            }
+        }
+    }
+
+    private static Contribution contributionOf(Task t) {
+        Duration duration = t.getDuration();
+        return new Contribution(t.getDate(), t.getCategoryCode(), t.isCompleted(),
+            duration == null ? 0 : duration.getSeconds(),
+            (long) t.getComplexity() * weightOf(t.getPriorityLevel()));
+    }
+
+    private static int weightOf(TaskPriority priority) {
+        if (priority == null) return 1;
+        return switch (priority) {
+            case HIGH -> 3;
+            case MEDIUM -> 2;
+            case LOW -> 1;
+        };
+    }
+
+    private void apply(Contribution c, int sign) {
+        long[] delta = { sign, c.completed() ? sign : 0, sign * c.seconds(), sign * c.weight() };
+        if (c.category() != CategoryDictionary.NONE) {
+            long[] sums = byCategory.computeIfAbsent(c.category(), k -> new long[FIELDS]);
+            synchronized (sums) {
+                for (int f = 0; f < FIELDS; f++) sums[f] += delta[f];
+            }
+        }
+        if (c.date() == null) return;
+        long epochDay = c.date().toEpochDay();
+        long key = blockOf(epochDay);
+        int slot = slotOf(epochDay);
+        while (true) {
+            Block b = blocks.computeIfAbsent(key, k -> new Block());
+            synchronized (b) {
+                if (b.retired) continue; // emptied and on its way out; take the next one
+                for (int f = 0; f < FIELDS; f++) {
+                    if (delta[f] != 0) b.add(slot, f, delta[f]);
+                }
+                // A block whose last task left is dropped, so far-off dates do not pin memory
+                if (b.total[COUNT] == 0) {
+                    b.retired = true;
+                    blocks.remove(key, b);
+                }
+                return;
+            }
+        }
+    }
+
+    private static long blockOf(long epochDay) {
+        return Math.floorDiv(epochDay, BLOCK_DAYS);
+    }
+
+    private static int slotOf(long epochDay) {
+        return Math.floorMod(epochDay, BLOCK_DAYS);
+    }
+
+    /** Blocks currently allocated; for tests. */
+    int blockCount() {
+        return blocks.size();
+    }
+}
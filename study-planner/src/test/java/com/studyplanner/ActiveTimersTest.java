@@ -0,0 +1,129 @@
+package com.studyplanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ActiveTimersTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private long now;
+    private ActiveTimers timers;
+
+    @Before
+    public void setUp() {
+        now = 5 * SECOND;
+        timers = new ActiveTimers(() -> now);
+    }
+
+    private static Task task(String title, int seconds) {
+        Task t = new Task(title, LocalDate.of(2096, 8, 1));
+        t.setDuration(Duration.ofSeconds(seconds));
+        return t;
+    }
+
+    @Test
+    public void testRemainingComesFromTheClockNotFromTicks() {
+        Task t = task("T", 90);
+        timers.start(t);
+        ActiveTimers.Countdown c = timers.active().get(0);
+        assertEquals(90, c.remainingSeconds(now));
+
+        // Ticks that arrive late or not at all do not make the countdown drift
+        now += 30 * SECOND + SECOND / 2;
+        assertEquals(60, c.remainingSeconds(now));
+        now += 59 * SECOND;
+        timers.tick();
+        assertEquals(1, c.remainingSeconds(now));
+        now += SECOND / 2;
+        assertEquals(0, c.remainingSeconds(now));
+    }
+
+    @Test
+    public void testResumedCountdownRunsOnlyWhatIsLeft() {
+        Task t = task("Resumed", 1800);
+        timers.start(t, Duration.ofSeconds(45));
+        assertEquals(45, timers.active().get(0).remainingSeconds(now));
+        now += 45 * SECOND;
+        assertEquals(List.of(t), timers.tick());
+    }
+
+    @Test
+    public void testTickReturnsFinishedTasksTogetherInEndOrder() {
+        Task a = task("A", 10);
+        Task b = task("B", 5);
+        Task c = task("C", 60);
+        timers.start(a);
+        timers.start(b);
+        timers.start(c);
+
+        now += 4 * SECOND;
+        assertTrue(timers.tick().isEmpty());
+        now += 20 * SECOND;
+        assertEquals(List.of(b, a), timers.tick());
+        assertEquals(1, timers.active().size());
+        assertSame(c, timers.active().get(0).task());
+    }
+
+    @Test
+    public void testStopAndDoubleStart() {
+        Task t = task("T", 10);
+        assertTrue(timers.start(t));
+        assertFalse(timers.start(t));
+        timers.stop(t);
+        assertTrue(timers.active().isEmpty());
+        now += 20 * SECOND;
+        assertTrue(timers.tick().isEmpty());
+    }
+
+    @Test
+    public void testRestartAfterStopUsesTheNewEnd() {
+        Task t = task("Restarted", 10);
+        timers.start(t);
+        timers.stop(t);
+        timers.start(t, Duration.ofSeconds(30));
+        now += 20 * SECOND;
+        assertTrue("The stopped countdown's end is skipped", timers.tick().isEmpty());
+        assertEquals(1, timers.active().size());
+        now += 10 * SECOND;
+        assertEquals(List.of(t), timers.tick());
+        assertTrue(timers.active().isEmpty());
+    }
+
+    @Test
+    public void testStoppingManyKeepsEveryOtherRow() {
+        List<Task> started = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            Task t = task("Stop " + i, 60 + i);
+            started.add(t);
+            timers.start(t);
+        }
+        for (int i = 0; i < started.size(); i += 2) timers.stop(started.get(i));
+
+        Set<Task> left = new HashSet<>();
+        for (ActiveTimers.Countdown c : timers.active()) left.add(c.task());
+        assertEquals(50_000, left.size());
+        for (int i = 1; i < started.size(); i += 2) assertTrue(left.contains(started.get(i)));
+
+        now += 64 * SECOND;
+        assertEquals(List.of(started.get(1), started.get(3)), timers.tick());
+        assertEquals(49_998, timers.active().size());
+    }
+
+    @Test
+    public void testManyRunningTimersOnlyFinishedOnesAreTouched() {
+        for (int i = 0; i < 100_000; i++) timers.start(task("Many " + i, 60 + i));
+        now += 61 * SECOND;
+        assertEquals(2, timers.tick().size());
+        assertEquals(99_998, timers.active().size());
+    }
+}
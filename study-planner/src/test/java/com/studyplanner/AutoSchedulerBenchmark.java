@@ -0,0 +1,89 @@
+package com.studyplanner;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Schedules growing numbers of tasks and reports solve time, time per task
+ * and schedule quality, for two workloads against a 09:00-18:00 day with
+ * about five tasks per day of deadlines:
+ *
+ * <ul>
+ *   <li>spread: tasks of 15 minutes to 2 hours and one pinned hour a day;</li>
+ *   <li>fragmented: a pinned 20 minutes every hour, leaving 40-minute gaps,
+ *       and tasks of 10 to 50 minutes, so short remainders pile up ahead of
+ *       the longer tasks and about a quarter of the tasks fit nowhere.</li>
+ * </ul>
+ *
+ * First-fit that walks the gaps grows with tasks times gaps on the second;
+ * time per task should stay flat on both. Not a unit test; after
+ * {@code mvn test-compile} run its main method with the test classpath.
+ */
+public class AutoSchedulerBenchmark {
+
+    private static final int[] SIZES = { 1_000, 5_000, 10_000, 20_000, 50_000, 100_000, 200_000 };
+    private static final int ROUNDS = 6;
+    private static final LocalDateTime NOW = LocalDate.of(2025, 9, 1).atTime(8, 0);
+
+    public static void main(String[] args) {
+        AutoScheduler scheduler = new AutoScheduler(LocalTime.of(9, 0), LocalTime.of(18, 0),
+            EnumSet.allOf(DayOfWeek.class));
+        for (boolean fragmented : new boolean[] { false, true }) {
+            System.out.println(fragmented ? "fragmented" : "spread");
+            System.out.println("   tasks   solve ms  us/task   placed     late  unplaced  on time  avg late h");
+            for (int n : SIZES) run(scheduler, n, fragmented);
+            System.out.println();
+        }
+    }
+
+    private static void run(AutoScheduler scheduler, int n, boolean fragmented) {
+        Random random = new Random(n);
+        int days = Math.max(1, n / 5);
+        List<Task> tasks = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Task t = new Task("T" + i, NOW.toLocalDate().plusDays(random.nextInt(days)));
+            t.setId(i + 1);
+            t.setPriority(TaskPriority.values()[random.nextInt(3)]);
+            t.setComplexity(1 + random.nextInt(10));
+            t.setDuration(Duration.ofMinutes(fragmented ? 10 + random.nextInt(41) : 15 + random.nextInt(106)));
+            tasks.add(t);
+        }
+        List<Task> busy = new ArrayList<>();
+        // Busy time as far as late tasks may go, so the fragments never run out
+        for (int d = 0; d < days + AutoScheduler.SLACK_DAYS; d++) {
+            LocalDate date = NOW.toLocalDate().plusDays(d);
+            if (fragmented) {
+                for (int h = 9; h < 18; h++) busy.add(pinned("Block " + d + ":" + h, date.atTime(h, 40), 20));
+            } else if (d < days) {
+                busy.add(pinned("Class " + d, date.atTime(10 + random.nextInt(6), 0), 60));
+            }
+        }
+
+        AutoScheduler.Result result = null;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            result = scheduler.schedule(tasks, busy, NOW);
+            long elapsed = System.nanoTime() - start;
+            if (round >= ROUNDS / 2) best = Math.min(best, elapsed);
+        }
+        AutoScheduler.Quality q = result.quality();
+        System.out.printf("%8d %10.2f %8.2f %8d %8d %9d %7.1f%% %10.2f%n", n, best / 1_000_000.0,
+            best / 1_000.0 / n, q.placed(), q.late(), q.unplaced(), 100 * q.onTimeRatio(),
+            q.late() == 0 ? 0 : q.latenessSeconds() / 3600.0 / q.late());
+    }
+
+    private static Task pinned(String title, LocalDateTime start, int minutes) {
+        Task b = new Task(title, start.toLocalDate());
+        b.setStartTime(start);
+        b.setDuration(Duration.ofMinutes(minutes));
+        return b;
+    }
+}
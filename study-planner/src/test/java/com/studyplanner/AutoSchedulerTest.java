@@ -0,0 +1,131 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AutoSchedulerTest {
+
+    // A Monday
+    private static final LocalDate DAY = LocalDate.of(2096, 6, 4);
+    private static final LocalDateTime MONDAY_MORNING = DAY.atTime(8, 0);
+
+    private final AutoScheduler weekdays = new AutoScheduler(LocalTime.of(9, 0), LocalTime.of(12, 0),
+        EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+    private static Task task(String title, LocalDate due, String priority, int minutes) {
+        Task t = new Task(title, due);
+        t.setPriority(priority);
+        t.setDuration(Duration.ofMinutes(minutes));
+        return t;
+    }
+
+    private static Task pinned(LocalDateTime start, int minutes) {
+        Task t = new Task("Pinned", start.toLocalDate());
+        t.setStartTime(start);
+        t.setDuration(Duration.ofMinutes(minutes));
+        t.setTimerEnabled(true);
+        return t;
+    }
+
+    private static LocalDateTime startOf(AutoScheduler.Result r, Task t) {
+        return r.placed().stream().filter(p -> p.task() == t).findFirst().orElseThrow().start();
+    }
+
+    @Test
+    public void testEarliestDueThenPriorityGoesFirst() {
+        Task later = task("Later", DAY.plusDays(3), "High", 60);
+        Task lowSoon = task("Low soon", DAY, "Low", 60);
+        Task highSoon = task("High soon", DAY, "High", 60);
+
+        AutoScheduler.Result r = weekdays.schedule(List.of(later, lowSoon, highSoon), List.of(), MONDAY_MORNING);
+
+        assertEquals(DAY.atTime(9, 0), startOf(r, highSoon));
+        assertEquals(DAY.atTime(10, 0), startOf(r, lowSoon));
+        assertEquals(DAY.atTime(11, 0), startOf(r, later));
+        assertEquals(new AutoScheduler.Quality(3, 0, 0, 0), r.quality());
+    }
+
+    @Test
+    public void testWorksAroundPinnedTasksAndSkipsUnavailableDays() {
+        Task a = task("A", DAY.plusDays(7), "Medium", 90);
+        Task b = task("B", DAY.plusDays(7), "Medium", 90);
+        // 09:30-11:30 on Monday leaves only 30-minute gaps there
+        AutoScheduler.Result r = weekdays.schedule(List.of(a, b),
+            List.of(pinned(DAY.atTime(9, 30), 120)), DAY.plusDays(4).atTime(8, 0));
+
+        // Friday holds one, the next one goes past the weekend to Monday
+        assertEquals(DAY.plusDays(4).atTime(9, 0), startOf(r, a));
+        assertEquals(DAY.plusDays(4).atTime(10, 30), startOf(r, b));
+
+        Task c = task("C", DAY, "Medium", 60);
+        r = weekdays.schedule(List.of(c), List.of(pinned(DAY.atTime(9, 30), 120)), MONDAY_MORNING);
+        assertEquals("Monday has no hour free, Tuesday does", DAY.plusDays(1).atTime(9, 0), startOf(r, c));
+        assertEquals(1, r.quality().late());
+        assertEquals(Duration.ofHours(10).getSeconds(), r.quality().latenessSeconds());
+    }
+
+    @Test
+    public void testTaskLongerThanAnyWindowIsUnplaced() {
+        Task huge = task("Huge", DAY, "High", 4 * 60);
+        AutoScheduler.Result r = weekdays.schedule(List.of(huge), List.of(), MONDAY_MORNING);
+        assertEquals(List.of(huge), r.unplaced());
+        assertEquals(0.0, r.quality().onTimeRatio(), 1e-9);
+    }
+
+    @Test
+    public void testNotBeforeCutsIntoTheFirstDay() {
+        Task t = task("T", DAY, "Medium", 30);
+        AutoScheduler.Result r = weekdays.schedule(List.of(t), List.of(), DAY.atTime(10, 15));
+        assertEquals(DAY.atTime(10, 15), startOf(r, t));
+    }
+
+    @Test
+    public void testApplySetsStartTimes() {
+        Task t = task("T", DAY, "Medium", 30);
+        weekdays.schedule(List.of(t), List.of(), MONDAY_MORNING).apply();
+        assertEquals(DAY.atTime(9, 0), t.getStartTime());
+    }
+
+    @Test
+    public void testManyTasksNeverOverlapOrLeaveTheirWindows() {
+        Random random = new Random(3);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            tasks.add(task("R" + i, DAY.plusDays(random.nextInt(300)), "Medium", 5 + random.nextInt(55)));
+        }
+        List<Task> busy = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            busy.add(pinned(DAY.plusDays(random.nextInt(300)).atTime(8 + random.nextInt(4), 0), 15 + random.nextInt(90)));
+        }
+
+        AutoScheduler.Result r = weekdays.schedule(tasks, busy, MONDAY_MORNING);
+        assertEquals(tasks.size(), r.placed().size());
+
+        List<AutoScheduler.Placement> byStart = new ArrayList<>(r.placed());
+        byStart.sort(Comparator.comparing(AutoScheduler.Placement::start));
+        for (int i = 0; i < byStart.size(); i++) {
+            AutoScheduler.Placement p = byStart.get(i);
+            LocalDate d = p.start().toLocalDate();
+            assertTrue(d.getDayOfWeek().getValue() <= 5);
+            assertFalse(p.start().toLocalTime().isBefore(LocalTime.of(9, 0)));
+            assertFalse(p.end().isAfter(d.atTime(12, 0)));
+            if (i > 0) assertFalse(p.start().isBefore(byStart.get(i - 1).end()));
+            for (Task b : busy) {
+                LocalDateTime bEnd = b.getStartTime().plus(b.getDuration());
+                assertFalse("Overlaps a pinned task", p.start().isBefore(bEnd) && b.getStartTime().isBefore(p.end()));
+            }
+        }
+    }
+}
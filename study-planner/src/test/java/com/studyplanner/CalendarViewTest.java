@@ -0,0 +1,46 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.Assert.*;
+
+public class CalendarViewTest {
+
+    private static WorkloadIndex.Totals load(int tasks, int minutes) {
+        return new WorkloadIndex.Totals(tasks, 0, minutes * 60L, 0);
+    }
+
+    @Test
+    public void testSixWeeksAlwaysCoverTheMonthFromItsFirstMonday() {
+        for (YearMonth m = YearMonth.of(2024, 1); m.isBefore(YearMonth.of(2034, 1)); m = m.plusMonths(1)) {
+            LocalDate first = CalendarView.firstCell(m);
+            assertEquals(DayOfWeek.MONDAY, first.getDayOfWeek());
+            assertFalse(first.isAfter(m.atDay(1)));
+            assertTrue(first.plusDays(7).isAfter(m.atDay(1)));
+            assertTrue(m + " must fit", first.plusDays(CalendarView.CELLS - 1).compareTo(m.atEndOfMonth()) >= 0);
+        }
+        // A month starting on Monday begins in the top-left cell
+        assertEquals(LocalDate.of(2030, 4, 1), CalendarView.firstCell(YearMonth.of(2030, 4)));
+    }
+
+    @Test
+    public void testLabelSummarisesTheDay() {
+        LocalDate d = LocalDate.of(2030, 4, 9);
+        assertEquals("9", CalendarView.label(d, WorkloadIndex.Totals.EMPTY));
+        assertEquals("9\n1 task · 45m", CalendarView.label(d, load(1, 45)));
+        assertEquals("9\n3 tasks · 2h", CalendarView.label(d, load(3, 120)));
+        assertEquals("9\n4 tasks · 2h05", CalendarView.label(d, load(4, 125)));
+    }
+
+    @Test
+    public void testLoadLevels() {
+        assertNull(CalendarView.loadLevel(WorkloadIndex.Totals.EMPTY));
+        assertEquals("light", CalendarView.loadLevel(load(2, 120)));
+        assertEquals("medium", CalendarView.loadLevel(load(2, 121)));
+        assertEquals("heavy", CalendarView.loadLevel(load(5, 241)));
+    }
+}
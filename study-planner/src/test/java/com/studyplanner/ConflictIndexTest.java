@@ -0,0 +1,134 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class ConflictIndexTest {
+
+    private static final LocalDateTime NINE = LocalDate.of(2096, 7, 1).atTime(9, 0);
+
+    private final ConflictIndex index = new ConflictIndex();
+
+    private static Task timed(String title, LocalDateTime start, int minutes) {
+        Task t = new Task(title, start.toLocalDate());
+        t.setStartTime(start);
+        t.setDuration(Duration.ofMinutes(minutes));
+        t.setTimerEnabled(true);
+        return t;
+    }
+
+    @Test
+    public void testUpdateReportsOverlapsButNotTouchingWindows() {
+        Task a = timed("A", NINE, 60);
+        Task b = timed("B", NINE.plusMinutes(30), 60);
+        Task c = timed("C", NINE.plusMinutes(90), 30);
+
+        assertTrue(index.update(a).isEmpty());
+        assertEquals(List.of(a), index.update(b));
+        assertEquals("C starts as B ends, and after A", List.of(), index.update(c));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testReschedulingMovesTheTask() {
+        Task a = timed("A", NINE, 60);
+        Task b = timed("B", NINE.plusHours(2), 60);
+        index.update(a);
+        index.update(b);
+
+        b.setStartTime(NINE.plusMinutes(45));
+        assertEquals(List.of(a), index.update(b));
+        b.setStartTime(NINE.plusHours(5));
+        assertTrue(index.update(b).isEmpty());
+        assertTrue(index.conflictsWith(a).isEmpty());
+    }
+
+    @Test
+    public void testTasksWithoutTimerOrCompletedLeaveTheIndex() {
+        Task a = timed("A", NINE, 60);
+        Task b = timed("B", NINE, 60);
+        index.update(a);
+        index.update(b);
+
+        b.setTimerEnabled(false);
+        assertTrue(index.update(b).isEmpty());
+        assertFalse(index.contains(b));
+
+        a.setCompleted(true);
+        index.update(a);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testConflictsBetweenPairsOverlappingTasksInRange() {
+        Task a = timed("A", NINE, 120);
+        Task b = timed("B", NINE.plusMinutes(30), 30);
+        Task c = timed("C", NINE.plusMinutes(90), 60);
+        Task later = timed("Later", NINE.plusDays(1), 60);
+        Task laterToo = timed("Later too", NINE.plusDays(1), 60);
+        for (Task t : List.of(a, b, c, later, laterToo)) index.update(t);
+
+        assertEquals(List.of(new ConflictIndex.Conflict(a, b), new ConflictIndex.Conflict(a, c)),
+            index.conflictsBetween(NINE, NINE.plusHours(12)));
+        assertEquals(List.of(a, b, c), index.overlapping(NINE.plusMinutes(45), NINE.plusMinutes(100)));
+        assertEquals(List.of(c), index.overlapping(NINE.plusMinutes(120), NINE.plusMinutes(130)));
+    }
+
+    @Test
+    public void testMatchesBruteForceUnderRandomChanges() {
+        Random random = new Random(11);
+        List<Task> all = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            Task t = timed("R" + i, NINE.plusMinutes(random.nextInt(30 * 24 * 60)), 1 + random.nextInt(180));
+            all.add(t);
+            index.update(t);
+        }
+        for (int i = 0; i < 1500; i++) {
+            Task t = all.get(random.nextInt(all.size()));
+            if (random.nextInt(4) == 0) t.setTimerEnabled(!t.isTimerEnabled());
+            else t.setStartTime(NINE.plusMinutes(random.nextInt(30 * 24 * 60)));
+            index.update(t);
+        }
+
+        for (int q = 0; q < 100; q++) {
+            Task probe = all.get(random.nextInt(all.size()));
+            Set<Task> expected = new HashSet<>();
+            for (Task other : all) {
+                if (other != probe && other.isTimerEnabled() && overlaps(probe, other)) expected.add(other);
+            }
+            assertEquals(expected, new HashSet<>(index.conflictsWith(probe)));
+        }
+
+        LocalDateTime from = NINE.plusDays(10);
+        LocalDateTime to = NINE.plusDays(12);
+        int expectedPairs = 0;
+        for (int i = 0; i < all.size(); i++) {
+            Task x = all.get(i);
+            if (!x.isTimerEnabled() || !touches(x, from, to)) continue;
+            for (int j = i + 1; j < all.size(); j++) {
+                Task y = all.get(j);
+                if (y.isTimerEnabled() && touches(y, from, to) && overlaps(x, y)) expectedPairs++;
+            }
+        }
+        assertEquals(expectedPairs, index.conflictsBetween(from, to).size());
+    }
+
+    private static boolean overlaps(Task x, Task y) {
+        return x.getStartTime().isBefore(y.getStartTime().plus(y.getDuration()))
+            && y.getStartTime().isBefore(x.getStartTime().plus(x.getDuration()));
+    }
+
+    private static boolean touches(Task x, LocalDateTime from, LocalDateTime to) {
+        return x.getStartTime().isBefore(to) && from.isBefore(x.getStartTime().plus(x.getDuration()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+
+public class ConnectionPoolTest {
+
+    private File dbFile;
+    private ConnectionPool pool;
+
+    @Before
+    public void setUp() throws Exception {
+        dbFile = File.createTempFile("pool-test", ".db");
+        pool = new ConnectionPool("jdbc:sqlite:" + dbFile.getPath(), 2,
+            ConnectionPool.DEFAULT_PRAGMAS, 200);
+    }
+
+    @After
+    public void tearDown() {
+        pool.close();
+        dbFile.delete();
+        new File(dbFile.getPath() + "-wal").delete();
+        new File(dbFile.getPath() + "-shm").delete();
+    }
+
+    @Test
+    public void testPragmasAppliedToNewConnections() throws SQLException {
+        try (ConnectionPool.PooledConnection pc = pool.writer();
+             ResultSet rs = pc.prepare("PRAGMA journal_mode").executeQuery()) {
+            assertTrue(rs.next());
+            assertEquals("wal", rs.getString(1).toLowerCase());
+        }
+    }
+
+    @Test
+    public void testPreparedStatementsAreCached() throws SQLException {
+        try (ConnectionPool.PooledConnection pc = pool.writer()) {
+            PreparedStatement first = pc.prepare("SELECT 1");
+            PreparedStatement second = pc.prepare("SELECT 1");
+            assertSame(first, second);
+        }
+    }
+
+    @Test
+    public void testInsertStatementsAreCachedApartFromPlainOnes() throws SQLException {
+        try (ConnectionPool.PooledConnection pc = pool.writer()) {
+            pc.prepare("CREATE TABLE t (id INTEGER PRIMARY KEY, v TEXT)").executeUpdate();
+            PreparedStatement plain = pc.prepare("INSERT INTO t (v) VALUES (?)");
+            PreparedStatement insert = pc.prepareInsert("INSERT INTO t (v) VALUES (?)");
+            assertNotSame(plain, insert);
+            assertSame(insert, pc.prepareInsert("INSERT INTO t (v) VALUES (?)"));
+
+            insert.setString(1, "x");
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                assertTrue(keys.next());
+                assertEquals(1, keys.getLong(1));
+            }
+        }
+    }
+
+    @Test
+    public void testReaderIsReusedAfterRelease() throws SQLException {
+        Connection first;
+        try (ConnectionPool.PooledConnection pc = pool.reader()) {
+            first = pc.connection();
+        }
+        try (ConnectionPool.PooledConnection pc = pool.reader()) {
+            assertSame(first, pc.connection());
+        }
+        assertEquals(1, pool.stats().readersOpen());
+    }
+
+    @Test
+    public void testStatsTrackBorrowsAndUtilization() throws SQLException {
+        try (ConnectionPool.PooledConnection w = pool.writer();
+             ConnectionPool.PooledConnection r = pool.reader()) {
+            assertNotSame(w.connection(), r.connection());
+            ConnectionPool.Stats during = pool.stats();
+            assertEquals(2, during.inUse());
+            assertEquals(2.0 / 3, during.utilization(), 1e-9);
+        }
+        ConnectionPool.Stats after = pool.stats();
+        assertEquals(2, after.borrows());
+        assertEquals(0, after.inUse());
+        assertEquals(2, after.peakInUse());
+    }
+
+    @Test(expected = SQLException.class)
+    public void testBorrowTimesOutWhenReadersExhausted() throws SQLException {
+        try (ConnectionPool.PooledConnection a = pool.reader();
+             ConnectionPool.PooledConnection b = pool.reader()) {
+            assertNotSame(a.connection(), b.connection());
+            pool.reader();
+        }
+    }
+
+    @Test
+    public void testClosingALeaseTwiceReleasesOnce() throws SQLException {
+        ConnectionPool.PooledConnection r = pool.reader();
+        r.close();
+        r.close();
+        ConnectionPool.PooledConnection w = pool.writer();
+        w.close();
+        w.close();
+        assertEquals(0, pool.stats().inUse());
+
+        // The reader went back to the idle queue once, so two borrows get two connections
+        try (ConnectionPool.PooledConnection a = pool.reader();
+             ConnectionPool.PooledConnection b = pool.reader()) {
+            assertNotSame(a.connection(), b.connection());
+        }
+        try (ConnectionPool.PooledConnection again = pool.writer()) {
+            assertNotNull(again.connection());
+        }
+    }
+
+    @Test(expected = SQLException.class)
+    public void testReleasedLeaseCannotPrepare() throws SQLException {
+        ConnectionPool.PooledConnection r = pool.reader();
+        r.close();
+        r.prepare("SELECT 1");
+    }
+
+    @Test(expected = SQLException.class)
+    public void testClosedPoolRejectsBorrow() throws SQLException {
+        pool.close();
+        pool.writer();
+    }
+}
@@ -0,0 +1,117 @@
+package com.studyplanner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Compares TaskStore's date index with what the old
+ * {@code HashMap<LocalDate, List<Task>>} did for the same views:
+ *
+ * <ul>
+ *   <li>a month of the calendar: one {@code get} per day of the month, as
+ *       the old grid did per cell;</li>
+ *   <li>the tasks of the next 7 days, and the overdue ones: a pass over
+ *       every entry, as the old task lists did.</li>
+ * </ul>
+ *
+ * Not a unit test; after {@code mvn test-compile} run its main method with
+ * the test classpath.
+ */
+public class DateIndexBenchmark {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+    private static final int SPAN_DAYS = 3650;
+    private static final int QUERIES = 200;
+    private static final int ROUNDS = 5;
+
+    // Keeps the results alive so the queries are not optimized away
+    static volatile long sink;
+
+    private interface Query {
+        int run(int i);
+    }
+
+    public static void main(String[] args) {
+        for (int size : new int[] { 10_000, 100_000, 1_000_000 }) {
+            run(size);
+        }
+    }
+
+    private static void run(int size) {
+        Random random = new Random(size);
+        Map<LocalDate, List<Task>> hashMap = new HashMap<>();
+        TaskStore store = new TaskStore();
+        for (int i = 0; i < size; i++) {
+            Task t = new Task("Task " + i, BASE.plusDays(random.nextInt(SPAN_DAYS)));
+            if (random.nextInt(4) == 0) t.setCompleted(true);
+            hashMap.computeIfAbsent(t.getDate(), d -> new ArrayList<>()).add(t);
+            store.add(t);
+        }
+
+        System.out.printf("%,9d tasks:%n", size);
+        report("month, get per day ", time(i -> getPerDay(hashMap, month(i)).size()),
+            "date index", time(i -> store.between(month(i), month(i).plusMonths(1).minusDays(1)).size()));
+        report("next 7 days, scan  ", time(i -> scanUpcoming(hashMap, month(i), 7).size()),
+            "date index", time(i -> store.upcoming(month(i), 7).size()));
+        report("overdue, scan      ", time(i -> scanOverdue(hashMap, month(i)).size()),
+            "date index", time(i -> store.overdue(month(i)).size()));
+    }
+
+    /** Median over the rounds, after a warm-up round, of the micros per query. */
+    private static double time(Query query) {
+        long total = 0;
+        for (int i = 0; i < QUERIES; i++) total += query.run(i);
+        double[] micros = new double[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < QUERIES; i++) total += query.run(i);
+            micros[round] = (System.nanoTime() - start) / 1_000.0 / QUERIES;
+        }
+        sink = total;
+        Arrays.sort(micros);
+        return micros[ROUNDS / 2];
+    }
+
+    private static void report(String oldLabel, double oldMicros, String newLabel, double newMicros) {
+        System.out.printf("  %s %,10.1f us   %s %,10.1f us%n", oldLabel, oldMicros, newLabel, newMicros);
+    }
+
+    private static LocalDate month(int i) {
+        return BASE.plusMonths(i % (SPAN_DAYS / 31));
+    }
+
+    /** What month rendering did with the plain map: one lookup per day. */
+    private static List<Task> getPerDay(Map<LocalDate, List<Task>> map, LocalDate first) {
+        List<Task> result = new ArrayList<>();
+        for (LocalDate d = first; d.getMonth() == first.getMonth(); d = d.plusDays(1)) {
+            List<Task> day = map.get(d);
+            if (day != null) result.addAll(day);
+        }
+        return result;
+    }
+
+    /** Tasks due in the {@code days} days from {@code from}, found by a pass over every date. */
+    private static List<Task> scanUpcoming(Map<LocalDate, List<Task>> map, LocalDate from, int days) {
+        LocalDate end = from.plusDays(days);
+        List<Task> result = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<Task>> e : map.entrySet()) {
+            if (!e.getKey().isBefore(from) && e.getKey().isBefore(end)) result.addAll(e.getValue());
+        }
+        return result;
+    }
+
+    /** Ongoing tasks due before {@code today}, found by a pass over every date. */
+    private static List<Task> scanOverdue(Map<LocalDate, List<Task>> map, LocalDate today) {
+        List<Task> result = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<Task>> e : map.entrySet()) {
+            if (!e.getKey().isBefore(today)) continue;
+            for (Task t : e.getValue()) if (!t.isCompleted()) result.add(t);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PersistenceServiceTest {
+
+    private PersistenceService service;
+
+    @Before
+    public void setUp() {
+        service = new PersistenceService(4, Duration.ofMillis(50));
+    }
+
+    @After
+    public void tearDown() {
+        service.close();
+    }
+
+    @Test
+    public void testSaveAndUpdateRunOffTheCallingThread() throws Exception {
+        LocalDate date = LocalDate.of(2096, 6, 1);
+        Task t = new Task("Async save", date);
+
+        Task saved = service.save(t).get();
+        assertSame(t, saved);
+        assertTrue(saved.getId() > 0);
+
+        t.setNotes("async update");
+        service.update(t).get();
+
+        List<Task> stored = service.query(() -> TaskDB.getTasksForDate(date)).get();
+        assertTrue(stored.stream().anyMatch(s -> s.getId() == t.getId() && s.getNotes().equals("async update")));
+        TaskDB.deleteTask(t);
+    }
+
+    @Test
+    public void testFailedWriteCompletesExceptionallyAndIsCounted() throws InterruptedException {
+        // A task without a date cannot be written
+        Task broken = new Task("No date", null);
+        try {
+            service.save(broken).get();
+            fail("Save should fail");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof RuntimeException);
+        }
+        assertEquals(1, service.stats().failed());
+    }
+
+    @Test
+    public void testStatsReportQueueDepthAndLatency() throws Exception {
+        LocalDate date = LocalDate.of(2096, 6, 2);
+        Task a = new Task("Stats A", date);
+        Task b = new Task("Stats B", date);
+        service.save(a);
+        service.save(b).get();
+
+        PersistenceService.Stats stats = service.stats();
+        assertEquals(0, stats.queueDepth());
+        assertEquals(2, stats.completed());
+        assertTrue(stats.maxLatencyMillis() >= stats.averageLatencyMillis());
+        TaskDB.deleteTask(a);
+        TaskDB.deleteTask(b);
+    }
+
+    @Test
+    public void testRepeatedUpdatesCoalesceIntoOneWrite() throws Exception {
+        LocalDate date = LocalDate.of(2096, 6, 3);
+        Task t = new Task("Coalesce", date);
+        service.save(t).get();
+
+        PersistenceService slow = new PersistenceService(100, Duration.ofHours(1));
+        try {
+            t.setNotes("first");
+            CompletableFuture<Task> first = slow.update(t);
+            t.setNotes("last");
+            CompletableFuture<Task> second = slow.update(t);
+            assertSame(first, second);
+            assertFalse(first.isDone());
+
+            slow.flush().get();
+            assertTrue(first.isDone());
+            PersistenceService.Stats stats = slow.stats();
+            assertEquals(1, stats.coalesced());
+            assertEquals(1, stats.flushes());
+            assertEquals(1, stats.completed());
+            assertEquals(0, stats.queueDepth());
+        } finally {
+            slow.close();
+        }
+
+        List<Task> stored = TaskDB.getTasksForDate(date);
+        assertTrue(stored.stream().anyMatch(s -> s.getId() == t.getId() && s.getNotes().equals("last")));
+        TaskDB.deleteTask(t);
+    }
+
+    @Test
+    public void testSizeThresholdTriggersFlush() throws Exception {
+        LocalDate date = LocalDate.of(2096, 6, 4);
+        PersistenceService small = new PersistenceService(2, Duration.ofHours(1));
+        Task a = new Task("Threshold A", date);
+        Task b = new Task("Threshold B", date);
+        try {
+            small.save(a);
+            small.save(b).get();
+            CompletableFuture<Task> first = small.update(a);
+            small.update(b).get(5, TimeUnit.SECONDS);
+            assertTrue(first.isDone());
+            assertEquals(1, small.stats().flushes());
+        } finally {
+            small.close();
+            TaskDB.deleteTask(a);
+            TaskDB.deleteTask(b);
+        }
+    }
+
+    @Test
+    public void testCloseFlushesPendingUpdates() throws Exception {
+        LocalDate date = LocalDate.of(2096, 6, 5);
+        Task t = new Task("Close flush", date);
+        service.save(t).get();
+
+        PersistenceService slow = new PersistenceService(100, Duration.ofHours(1));
+        t.setNotes("written on close");
+        CompletableFuture<Task> pending = slow.update(t);
+        slow.close();
+
+        assertTrue(pending.isDone());
+        assertTrue(TaskDB.getTasksForDate(date).stream()
+            .anyMatch(s -> s.getId() == t.getId() && s.getNotes().equals("written on close")));
+        TaskDB.deleteTask(t);
+    }
+
+    @Test
+    public void testWriteListenersSeeSavesAndUpdatesOnTheCallingThread() throws Exception {
+        List<String> seen = new ArrayList<>();
+        Thread caller = Thread.currentThread();
+        service.addWriteListener(t -> seen.add(t.getTitle() + (Thread.currentThread() == caller ? "" : " elsewhere")));
+
+        Task t = new Task("Listened", LocalDate.of(2096, 6, 2));
+        CompletableFuture<Task> saved = service.save(t);
+        t.setNotes("changed");
+        service.update(t);
+        assertEquals(List.of("Listened", "Listened"), seen);
+
+        saved.get();
+        service.flush().get();
+        TaskDB.deleteTask(t);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullTaskRejected() {
+        service.save(null);
+    }
+}
@@ -0,0 +1,112 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ReminderDaemonTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private File dbFile;
+    private Connection conn;
+    private final ReminderEngineTest.SimulatedClock clock =
+        new ReminderEngineTest.SimulatedClock(T0.toInstant(ZoneOffset.UTC));
+    private final List<Long> delivered = new ArrayList<>();
+    private ReminderEngine<Long> engine;
+    private ReminderDaemon daemon;
+
+    @Before
+    public void setUp() throws Exception {
+        dbFile = File.createTempFile("daemon-test", ".db");
+        conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+        TaskSchema.MIGRATIONS.migrate(conn);
+        engine = new ReminderEngine<>(clock, Runnable::run);
+        engine.addSink(batch -> batch.forEach(r -> delivered.add(r.subject())));
+        daemon = new ReminderDaemon(engine);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        engine.close();
+        conn.close();
+        dbFile.delete();
+    }
+
+    private void insert(long id, LocalDateTime start, boolean timer, boolean completed) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(String.format(
+                "INSERT INTO tasks (id, title, date, completed, complexity, createdAt, startTime, durationSeconds, timerEnabled)"
+                    + " VALUES (%d, 'Task %d', %d, %d, 1, 0, %d, 1800, %d)",
+                id, id, start.toLocalDate().toEpochDay(), completed ? 1 : 0,
+                TaskSchema.epochSecond(start), timer ? 1 : 0));
+        }
+    }
+
+    @Test
+    public void testPollsOnlyOngoingTimersAndDeliversEachOnce() throws SQLException {
+        insert(1, T0.plusMinutes(5), true, false);
+        insert(2, T0.plusMinutes(10), true, false);
+        insert(3, T0.plusMinutes(5), false, false);
+        insert(4, T0.plusMinutes(5), true, true);
+        assertEquals(2, daemon.poll(conn));
+
+        clock.advance(Duration.ofMinutes(6));
+        engine.fireDue();
+        assertEquals(List.of(1L), delivered);
+
+        // A later poll sees the same start for 1 and must not repeat it
+        assertEquals(2, daemon.poll(conn));
+        clock.advance(Duration.ofMinutes(6));
+        engine.fireDue();
+        assertEquals(List.of(1L, 2L), delivered);
+    }
+
+    @Test
+    public void testPollDropsDeletedAndMovesRescheduledTasks() throws SQLException {
+        insert(1, T0.plusMinutes(5), true, false);
+        insert(2, T0.plusMinutes(5), true, false);
+        daemon.poll(conn);
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM tasks WHERE id = 1");
+            stmt.executeUpdate("UPDATE tasks SET startTime = "
+                + TaskSchema.epochSecond(T0.plusHours(1)) + " WHERE id = 2");
+        }
+        assertEquals(1, daemon.poll(conn));
+
+        clock.advance(Duration.ofMinutes(30));
+        assertEquals(0, engine.fireDue());
+        clock.advance(Duration.ofMinutes(30));
+        engine.fireDue();
+        assertEquals(List.of(2L), delivered);
+    }
+
+    @Test
+    public void testFirstPollCatchesUpStartsAlreadyPast() throws SQLException {
+        insert(1, T0.minusHours(2), true, false);      // ended while the daemon was down
+        insert(2, T0.minusMinutes(10), true, false);   // still running
+        insert(3, T0.plusMinutes(5), true, false);
+        assertEquals(3, daemon.poll(conn));
+        assertEquals(0, engine.fireDue());
+
+        // Later polls bring the same starts back; the past ones stay acknowledged
+        clock.advance(Duration.ofMinutes(6));
+        daemon.poll(conn);
+        engine.fireDue();
+        assertEquals(List.of(3L), delivered);
+    }
+}
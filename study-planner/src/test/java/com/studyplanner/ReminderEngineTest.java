@@ -0,0 +1,219 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ReminderEngineTest {
+
+    /** A clock that only moves when told to. */
+    static final class SimulatedClock extends Clock {
+        private volatile Instant now;
+
+        SimulatedClock(Instant start) { this.now = start; }
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { throw new UnsupportedOperationException(); }
+        @Override public Instant instant() { return now; }
+    }
+
+    private static final Instant T0 = Instant.parse("2030-01-01T00:00:00Z");
+
+    private final SimulatedClock clock = new SimulatedClock(T0);
+    private final List<ReminderEngine.Reminder<String>> delivered = new ArrayList<>();
+
+    private ReminderEngine<String> inlineEngine() {
+        ReminderEngine<String> engine = new ReminderEngine<>(clock, Runnable::run);
+        engine.addSink(delivered::addAll);
+        return engine;
+    }
+
+    private List<String> subjects() {
+        List<String> s = new ArrayList<>();
+        for (ReminderEngine.Reminder<String> r : delivered) s.add(r.subject());
+        return s;
+    }
+
+    @Test
+    public void testDeliversOnlyWhatIsDueInDueOrder() {
+        ReminderEngine<String> engine = inlineEngine();
+        engine.schedule("c", T0.plusSeconds(30));
+        engine.schedule("a", T0.plusSeconds(10));
+        engine.schedule("b", T0.plusSeconds(20));
+        assertEquals(T0.plusSeconds(10), engine.nextDue());
+
+        assertEquals(0, engine.fireDue());
+        clock.advance(Duration.ofSeconds(25));
+        assertEquals(2, engine.fireDue());
+        assertEquals(List.of("a", "b"), subjects());
+        assertEquals(Duration.ofSeconds(15), delivered.get(0).lateness());
+        assertEquals(1, engine.pending());
+
+        clock.advance(Duration.ofSeconds(5));
+        assertEquals(1, engine.fireDue());
+        assertEquals(List.of("a", "b", "c"), subjects());
+        assertNull(engine.nextDue());
+    }
+
+    @Test
+    public void testRescheduleCancelAndRepeat() {
+        ReminderEngine<String> engine = inlineEngine();
+        assertTrue(engine.schedule("moved", T0.plusSeconds(60)));
+        assertTrue(engine.schedule("moved", T0.plusSeconds(5)));
+        assertFalse("Same reminder again changes nothing", engine.schedule("moved", T0.plusSeconds(5)));
+        engine.schedule("cancelled", T0.plusSeconds(5));
+        engine.cancel("cancelled");
+        assertEquals(1, engine.pending());
+
+        clock.advance(Duration.ofMinutes(2));
+        engine.fireDue();
+        assertEquals(List.of("moved"), subjects());
+
+        // Delivered once; scheduling the same time again is not a new reminder
+        assertFalse(engine.schedule("moved", T0.plusSeconds(5)));
+        assertEquals(0, engine.fireDue());
+        assertTrue(engine.schedule("moved", T0.plusSeconds(90)));
+        assertEquals(1, engine.fireDue());
+    }
+
+    @Test
+    public void testAcknowledgedReminderIsNeverDelivered() {
+        ReminderEngine<String> engine = inlineEngine();
+        engine.schedule("caught up", T0.plusSeconds(5));
+        engine.acknowledge("caught up", T0.minusSeconds(60));
+        assertEquals(0, engine.pending());
+        assertFalse(engine.schedule("caught up", T0.minusSeconds(60)));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(0, engine.fireDue());
+        assertTrue("A new start is a new reminder", engine.schedule("caught up", T0.plusSeconds(30)));
+        assertEquals(1, engine.fireDue());
+    }
+
+    @Test
+    public void testDeliveredRemindersAreForgottenOnceStale() {
+        ReminderEngine<String> engine = new ReminderEngine<>(clock, Runnable::run, Duration.ofMinutes(1));
+        engine.addSink(delivered::addAll);
+        engine.schedule("old", T0.plusSeconds(10));
+        engine.schedule("dropped", T0.plusSeconds(10));
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals(2, engine.fireDue());
+        engine.cancel("dropped");
+        assertEquals("Cancelling forgets a delivered reminder", 1, engine.remembered());
+        assertFalse(engine.schedule("old", T0.plusSeconds(10)));
+
+        clock.advance(Duration.ofMinutes(2));
+        engine.fireDue();
+        assertEquals(0, engine.remembered());
+
+        // Forgotten, but too stale to be delivered again
+        assertFalse(engine.schedule("old", T0.plusSeconds(10)));
+        assertEquals(0, engine.fireDue());
+        assertEquals(0, engine.remembered());
+
+        // A stale start still replaces the pending reminder it moves
+        engine.schedule("moved", T0.plusSeconds(600));
+        assertFalse(engine.schedule("moved", T0.minusSeconds(60)));
+        assertEquals(0, engine.pending());
+        assertEquals(List.of("old", "dropped"), subjects());
+    }
+
+    @Test
+    public void testEverySinkGetsEachBatch() {
+        ReminderEngine<String> engine = inlineEngine();
+        List<String> other = new ArrayList<>();
+        ReminderEngine.Sink<String> second = batch -> batch.forEach(r -> other.add(r.subject()));
+        engine.addSink(second);
+
+        engine.schedule("x", T0);
+        engine.fireDue();
+        engine.removeSink(second);
+        engine.schedule("y", T0);
+        engine.fireDue();
+
+        assertEquals(List.of("x", "y"), subjects());
+        assertEquals(List.of("x"), other);
+    }
+
+    @Test
+    public void testDriverDeliversInRealTimeOnVirtualThreads() throws Exception {
+        BlockingQueue<String> seen = new LinkedBlockingQueue<>();
+        BlockingQueue<Boolean> virtual = new LinkedBlockingQueue<>();
+        try (ReminderEngine<String> engine = new ReminderEngine<>(Clock.systemUTC())) {
+            engine.addSink(batch -> {
+                virtual.add(Thread.currentThread().isVirtual());
+                batch.forEach(r -> seen.add(r.subject()));
+            });
+            engine.start();
+            engine.schedule("later", Instant.now().plusMillis(300));
+            engine.schedule("soon", Instant.now().plusMillis(100));
+
+            assertEquals("soon", seen.poll(5, TimeUnit.SECONDS));
+            assertEquals("later", seen.poll(5, TimeUnit.SECONDS));
+            assertEquals(Boolean.TRUE, virtual.poll(1, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testTwoMillionRemindersOverASimulatedDay() {
+        final int count = 2_000_000;
+        final long daySeconds = 86_400;
+        ReminderEngine<Integer> engine = new ReminderEngine<>(clock, Runnable::run);
+        BitSet seen = new BitSet(count);
+        long[] lastDue = { Long.MIN_VALUE };
+        int[] deliveries = { 0 };
+        long[] worstLateness = { 0 };
+        engine.addSink(batch -> {
+            for (ReminderEngine.Reminder<Integer> r : batch) {
+                int id = r.subject();
+                assertFalse("Delivered twice: " + id, seen.get(id));
+                seen.set(id);
+                long due = r.due().getEpochSecond();
+                assertFalse("Delivered early: " + id, r.delivered().isBefore(r.due()));
+                assertTrue("Out of order: " + id, due >= lastDue[0]);
+                lastDue[0] = due;
+                worstLateness[0] = Math.max(worstLateness[0], r.lateness().toMillis());
+                deliveries[0]++;
+            }
+        });
+
+        // Shuffled due times; every 10th is cancelled and every 7th moved an hour later
+        for (int i = 0; i < count; i++) {
+            engine.schedule(i, T0.plusSeconds((i * 7919L) % daySeconds));
+        }
+        int cancelled = 0;
+        for (int i = 0; i < count; i += 10) {
+            engine.cancel(i);
+            cancelled++;
+        }
+        for (int i = 0; i < count; i += 7) {
+            if (i % 10 != 0) engine.schedule(i, T0.plusSeconds((i * 7919L) % daySeconds + 3600));
+        }
+        assertEquals(count - cancelled, engine.pending());
+
+        // Tick the clock a second at a time through the day and the moved hour
+        for (long s = 0; s <= daySeconds + 3600; s++) {
+            engine.fireDue();
+            clock.advance(Duration.ofSeconds(1));
+        }
+
+        assertEquals(count - cancelled, deliveries[0]);
+        assertEquals(0, engine.pending());
+        assertEquals("Each reminder goes out on the tick it is due", 0, worstLateness[0]);
+        for (int i = 0; i < count; i += 10) assertFalse(seen.get(i));
+    }
+}
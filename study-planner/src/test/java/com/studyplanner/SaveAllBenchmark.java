@@ -0,0 +1,62 @@
+package com.studyplanner;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times inserting tasks with one TaskDB.saveAll call against the same
+ * tasks inserted by repeated TaskDB.addTask calls, each its own
+ * transaction. Not a unit test; after {@code mvn test-compile} run its
+ * main method with the test classpath from an empty scratch directory,
+ * since TaskDB writes tasks.db in the working directory.
+ */
+public class SaveAllBenchmark {
+
+    private static final int TASKS = 5_000;
+    private static final int ROUNDS = 3;
+    private static final String[] PRIORITIES = { "High", "Medium", "Low" };
+
+    public static void main(String[] args) {
+        if (new File("tasks.db").exists()) {
+            System.err.println("Run from an empty directory: tasks.db already exists here");
+            System.exit(2);
+        }
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Task> single = tasks(round);
+                long start = System.nanoTime();
+                for (Task t : single) TaskDB.addTask(t);
+                long addTaskNanos = System.nanoTime() - start;
+
+                List<Task> batched = tasks(round);
+                start = System.nanoTime();
+                TaskDB.saveAll(batched);
+                long saveAllNanos = System.nanoTime() - start;
+
+                System.out.printf("round %d: addTask %,8.0f rows/s, saveAll %,10.0f rows/s (%.0fx)%n", round,
+                    TASKS / (addTaskNanos / 1e9), TASKS / (saveAllNanos / 1e9),
+                    (double) addTaskNanos / saveAllNanos);
+            }
+        } finally {
+            TaskDB.shutdown();
+            new File("tasks.db").delete();
+            new File("tasks.db-wal").delete();
+            new File("tasks.db-shm").delete();
+        }
+    }
+
+    private static List<Task> tasks(int seed) {
+        Random random = new Random(seed);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task t = new Task("Task " + i, LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)));
+            t.setPriority(PRIORITIES[random.nextInt(3)]);
+            t.setComplexity(1 + random.nextInt(10));
+            tasks.add(t);
+        }
+        return tasks;
+    }
+}
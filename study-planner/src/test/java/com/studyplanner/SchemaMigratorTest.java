@@ -0,0 +1,175 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SchemaMigratorTest {
+
+    private File dbFile;
+    private Connection conn;
+
+    @Before
+    public void setUp() throws Exception {
+        dbFile = File.createTempFile("migrator-test", ".db");
+        conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getPath());
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        conn.close();
+        dbFile.delete();
+    }
+
+    @Test
+    public void testAppliesPendingMigrationsInOrderOnce() throws SQLException {
+        List<Integer> applied = new ArrayList<>();
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+            new SchemaMigrator.Migration(2, "second", c -> applied.add(2)),
+            new SchemaMigrator.Migration(1, "first", c -> applied.add(1))
+        ));
+
+        List<SchemaMigrator.Timing> report = migrator.migrate(conn);
+        assertEquals(List.of(1, 2), applied);
+        assertEquals(2, report.size());
+        assertEquals("first", report.get(0).description());
+        assertEquals(2, SchemaMigrator.readUserVersion(conn));
+
+        // Already current: nothing runs again
+        assertTrue(migrator.migrate(conn).isEmpty());
+        assertEquals(List.of(1, 2), applied);
+    }
+
+    @Test
+    public void testFailedMigrationRollsBackAndKeepsVersion() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+            new SchemaMigrator.Migration(1, "create", c ->
+                SchemaMigrator.execute(c, "CREATE TABLE a (x INTEGER)")),
+            new SchemaMigrator.Migration(2, "broken", c -> {
+                SchemaMigrator.execute(c, "CREATE TABLE b (x INTEGER)");
+                SchemaMigrator.execute(c, "NOT VALID SQL");
+            })
+        ));
+
+        try {
+            migrator.migrate(conn);
+            fail("Broken migration should throw");
+        } catch (SQLException expected) {
+            // expected
+        }
+        assertEquals(1, SchemaMigrator.readUserVersion(conn));
+        assertTrue(SchemaMigrator.tableExists(conn, "a"));
+        assertFalse(SchemaMigrator.tableExists(conn, "b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateVersionsRejected() {
+        new SchemaMigrator(List.of(
+            new SchemaMigrator.Migration(1, "a", c -> { }),
+            new SchemaMigrator.Migration(1, "b", c -> { })
+        ));
+    }
+
+    @Test
+    public void testTaskSchemaUpgradesLegacyTable() throws SQLException {
+        // Shape of tasks.db before timer columns and ids existed
+        SchemaMigrator.execute(conn, """
+            CREATE TABLE tasks (
+                title TEXT, date TEXT, completed INTEGER, priority TEXT,
+                complexity INTEGER, category TEXT, notes TEXT, createdAt TEXT
+            )
+        """);
+        SchemaMigrator.execute(conn, """
+            INSERT INTO tasks VALUES
+              ('Old A', '2025-01-01', 0, 'High', 3, 'General', '', '2025-01-01T10:00'),
+              ('Old B', '2025-01-02', 1, 'Low', 1, 'General', '', '2025-01-01T11:00')
+        """);
+
+        TaskSchema.MIGRATIONS.migrate(conn);
+
+        assertEquals(TaskSchema.MIGRATIONS.latestVersion(), SchemaMigrator.readUserVersion(conn));
+        assertTrue(SchemaMigrator.hasColumn(conn, "tasks", "id"));
+        assertTrue(SchemaMigrator.hasColumn(conn, "tasks", "timerEnabled"));
+        try (ResultSet rs = conn.createStatement().executeQuery(
+                "SELECT id, title FROM tasks ORDER BY id")) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getLong("id"));
+            assertEquals("Old A", rs.getString("title"));
+            assertTrue(rs.next());
+            assertEquals(2, rs.getLong("id"));
+            assertFalse(rs.next());
+        }
+        try (ResultSet rs = conn.createStatement().executeQuery(
+                "SELECT t.priority, c.name FROM tasks t JOIN categories c ON c.id = t.category ORDER BY t.id")) {
+            assertTrue(rs.next());
+            assertEquals(TaskPriority.HIGH.code(), rs.getInt(1));
+            assertEquals("General", rs.getString(2));
+            assertTrue(rs.next());
+            assertEquals(TaskPriority.LOW.code(), rs.getInt(1));
+        }
+    }
+
+    @Test
+    public void testMigrateToRunsDownStepsNewestFirst() throws SQLException {
+        List<String> steps = new ArrayList<>();
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+            new SchemaMigrator.Migration(1, "one", c -> steps.add("up1"), c -> steps.add("down1")),
+            new SchemaMigrator.Migration(2, "two", c -> steps.add("up2"), c -> steps.add("down2")),
+            new SchemaMigrator.Migration(3, "three", c -> steps.add("up3"), c -> steps.add("down3"))
+        ));
+
+        migrator.migrate(conn);
+        migrator.migrateTo(conn, 1);
+
+        assertEquals(List.of("up1", "up2", "up3", "down3", "down2"), steps);
+        assertEquals(1, SchemaMigrator.readUserVersion(conn));
+    }
+
+    @Test(expected = SQLException.class)
+    public void testIrreversibleMigrationCannotBeReverted() throws SQLException {
+        SchemaMigrator migrator = new SchemaMigrator(List.of(
+            new SchemaMigrator.Migration(1, "one way", c -> { })
+        ));
+        migrator.migrate(conn);
+        migrator.migrateTo(conn, 0);
+    }
+
+    @Test
+    public void testConverterRoundTripsTemporalColumns() throws SQLException {
+        TaskSchema.MIGRATIONS.migrateTo(conn, TaskSchema.ISO_TEMPORAL_VERSION);
+        SchemaMigrator.execute(conn, """
+            INSERT INTO tasks (title, date, completed, createdAt, startTime, durationSeconds, timerEnabled)
+            VALUES ('Convert', '2025-07-26', 0, '2025-07-26T23:33:25', '2025-07-27T09:05', 1800, 1)
+        """);
+
+        TaskDBConverter.toEpoch(conn);
+        try (ResultSet rs = conn.createStatement().executeQuery(
+                "SELECT date, createdAt, startTime, typeof(date) FROM tasks")) {
+            assertTrue(rs.next());
+            assertEquals(20295, rs.getLong(1));
+            assertEquals(1753572805, rs.getLong(2));
+            assertEquals(1753607100, rs.getLong(3));
+            assertEquals("integer", rs.getString(4));
+        }
+
+        TaskDBConverter.toIso(conn);
+        assertEquals(TaskSchema.ISO_TEMPORAL_VERSION, SchemaMigrator.readUserVersion(conn));
+        try (ResultSet rs = conn.createStatement().executeQuery(
+                "SELECT date, createdAt, startTime FROM tasks")) {
+            assertTrue(rs.next());
+            assertEquals("2025-07-26", rs.getString(1));
+            assertEquals("2025-07-26T23:33:25", rs.getString(2));
+            assertEquals("2025-07-27T09:05:00", rs.getString(3));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class StartupLoaderTest {
+
+    @Test
+    public void testDeliversWindowFirstThenEveryTaskOnce() throws Exception {
+        YearMonth month = YearMonth.of(2096, 2);
+        Task inMonth = new Task("Startup month", month.atDay(10));
+        Task ongoingLater = new Task("Startup ongoing", month.plusMonths(3).atDay(1));
+        Task completedEarlier = new Task("Startup history", month.minusMonths(5).atDay(1));
+        completedEarlier.setCompleted(true);
+        Task completedInMonth = new Task("Startup month done", month.atDay(12));
+        completedInMonth.setCompleted(true);
+        Task completedLater = new Task("Startup later done", month.plusMonths(2).atDay(1));
+        completedLater.setCompleted(true);
+        List<Task> added = List.of(inMonth, ongoingLater, completedEarlier, completedInMonth, completedLater);
+        TaskDB.saveAll(added);
+
+        try {
+            List<List<Task>> batches = new ArrayList<>();
+            StartupLoader loader = new StartupLoader(batches::add, Runnable::run, System.nanoTime());
+            StartupLoader.Progress progress = loader.start(month);
+
+            progress.fullyLoaded().get();
+
+            // The visible window arrives as the first batch
+            Set<Long> windowIds = new HashSet<>();
+            batches.get(0).forEach(t -> windowIds.add(t.getId()));
+            assertTrue(windowIds.contains(inMonth.getId()));
+            assertTrue(windowIds.contains(ongoingLater.getId()));
+            assertTrue(windowIds.contains(completedInMonth.getId()));
+            assertFalse("Completed history is not part of the first window",
+                windowIds.contains(completedEarlier.getId()));
+
+            List<Long> allIds = new ArrayList<>();
+            batches.forEach(b -> b.forEach(t -> allIds.add(t.getId())));
+            assertEquals("No task is delivered twice", allIds.size(), new HashSet<>(allIds).size());
+            for (Task t : added) assertTrue(t.getTitle(), allIds.contains(t.getId()));
+
+            loader.markFirstFrame();
+            StartupLoader.Metrics metrics = loader.metrics();
+            assertTrue(metrics.timeToWindowLoad() >= 0);
+            assertTrue(metrics.timeToFullLoad() >= metrics.timeToWindowLoad());
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
+
+    @Test
+    public void testTaskCompletedDuringTheLoadIsNotAddedTwice() throws Exception {
+        YearMonth month = YearMonth.of(2096, 3);
+        Task inMonth = new Task("Startup race month", month.atDay(10));
+        Task ongoingLater = new Task("Startup race ongoing", month.plusMonths(3).atDay(1));
+        List<Task> added = List.of(inMonth, ongoingLater);
+        TaskDB.saveAll(added);
+
+        TaskStore store = new TaskStore();
+        boolean[] first = { true };
+        try {
+            StartupLoader loader = new StartupLoader(batch -> {
+                store.addAll(batch);
+                if (first[0]) {
+                    // The user completes the task before its history page is read
+                    first[0] = false;
+                    for (Task t : batch) {
+                        if (t.getId() == ongoingLater.getId()) {
+                            t.setCompleted(true);
+                            TaskDB.updateTaskInDB(t);
+                        }
+                    }
+                }
+            }, Runnable::run, System.nanoTime());
+            loader.start(month).fullyLoaded().get();
+
+            long copies = store.completed().stream().filter(t -> t.getId() == ongoingLater.getId()).count()
+                + store.ongoing().stream().filter(t -> t.getId() == ongoingLater.getId()).count();
+            assertEquals(1, copies);
+            assertEquals(1, store.tasksOn(ongoingLater.getDate()).size());
+            assertTrue(store.containsId(inMonth.getId()));
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
+}
@@ -3,8 +3,6 @@ package com.studyplanner;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -17,14 +15,14 @@ public class StudyPlannerAppTest {
 
     @Before
     public void setUp() {
-        StudyPlannerApp.tasksByDate.clear();
+        StudyPlannerApp.tasks.clear();
     }
 
     @Test
     public void testAddTaskToDate() {
         LocalDate date = LocalDate.of(2025, 7, 28);
         Task t = new Task("Meeting", date);
-        StudyPlannerApp.tasksByDate.put(date, new ArrayList<>(List.of(t)));
+        StudyPlannerApp.tasks.add(t);
 
         assertTrue(StudyPlannerApp.tasksByDate.containsKey(date));
         assertEquals("Meeting", StudyPlannerApp.tasksByDate.get(date).get(0).getTitle());
@@ -37,7 +35,8 @@ public class StudyPlannerAppTest {
         Task t2 = new Task("B", today);
         t2.setCompleted(true);
 
-        StudyPlannerApp.tasksByDate.put(today, new ArrayList<>(Arrays.asList(t1, t2)));
+        StudyPlannerApp.tasks.add(t1);
+        StudyPlannerApp.tasks.add(t2);
 
         List<Task> ongoing = StudyPlannerApp.getAllOngoingTasks();
         List<Task> completed = StudyPlannerApp.getAllCompletedTasks();
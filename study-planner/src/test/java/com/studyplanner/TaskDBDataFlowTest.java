@@ -16,7 +16,7 @@ public class TaskDBDataFlowTest {
         LocalDateTime now = LocalDateTime.now();
         Task task = new Task(
             "DFTest", LocalDate.now().plusDays(5), false,
-            "Critical", 7, "Lab", "Data flow round-trip",
+            "High", 7, "Lab", "Data flow round-trip",
             now, now, Duration.ofMinutes(55), true
         );
 
@@ -4,6 +4,8 @@ import org.junit.Test;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.junit.Assert.*;
@@ -86,4 +88,56 @@ public class TaskDBIntegrationTest {
         assertTrue(tasks.stream().anyMatch(t -> t.getTitle().equals("Integration Multi1")));
         assertTrue(tasks.stream().anyMatch(t -> t.getTitle().equals("Integration Multi2")));
     }
+
+    @Test
+    public void testSaveAllBatchIntegration() {
+        LocalDate date = LocalDate.now().plusDays(4);
+
+        List<Task> batch = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            batch.add(new Task(
+                "Integration Batch" + i, date, false,
+                "Low", 1, "Integration", "bulk",
+                LocalDateTime.now(), LocalDateTime.now(),
+                Duration.ofMinutes(5), false
+            ));
+        }
+
+        // chunk size smaller than the batch so several transactions are used
+        int saved = TaskDB.saveAll(batch, 3);
+        assertEquals(7, saved);
+        assertEquals(7, batch.stream().mapToLong(Task::getId).filter(id -> id > 0).distinct().count());
+
+        List<Task> tasks = TaskDB.getTasksForDate(date);
+        for (Task added : batch) {
+            assertTrue(tasks.stream().anyMatch(
+                t -> t.getId() == added.getId() && t.getTitle().equals(added.getTitle())));
+        }
+    }
+
+    @Test
+    public void testSaveAllStreamingIteratorIntegration() {
+        LocalDate date = LocalDate.now().plusDays(6);
+        int total = 25;
+
+        // Tasks are created on demand, never collected into a list
+        Iterator<Task> source = new Iterator<>() {
+            int next = 0;
+            public boolean hasNext() { return next < total; }
+            public Task next() {
+                return new Task(
+                    "Integration Stream" + (next++), date, false,
+                    "Medium", 2, "Integration", "streamed",
+                    LocalDateTime.now(), LocalDateTime.now(),
+                    Duration.ofMinutes(10), false
+                );
+            }
+        };
+
+        assertEquals(total, TaskDB.saveAll(source, 10));
+        long found = TaskDB.getTasksForDate(date).stream()
+            .filter(t -> t.getTitle().startsWith("Integration Stream"))
+            .count();
+        assertTrue(found >= total);
+    }
 }
@@ -4,7 +4,9 @@ import org.junit.Test;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 
@@ -56,4 +58,143 @@ public class TaskDBPathTest {
         List<Task> tasks = TaskDB.getTasksForDate(date);
         assertTrue("Should return empty list for no tasks", tasks.isEmpty());
     }
+
+    // --- PATHS FOR updateTaskInDB(Task) ---
+
+    @Test
+    public void testAddTask_assignsGeneratedId() {
+        Task task = new Task("Id test", LocalDate.now().plusDays(11));
+        assertEquals(0, task.getId());
+        TaskDB.addTask(task);
+        assertTrue("Stored task should get an id", task.getId() > 0);
+    }
+
+    @Test
+    public void testUpdateTask_byIdOnlyTouchesThatRow() {
+        LocalDate date = LocalDate.now().plusDays(12);
+        Task first = new Task("Duplicate title", date);
+        Task second = new Task("Duplicate title", date);
+        TaskDB.addTask(first);
+        TaskDB.addTask(second);
+
+        first.setNotes("only me");
+        TaskDB.updateTaskInDB(first);
+
+        List<Task> tasks = TaskDB.getTasksForDate(date);
+        Task storedFirst = tasks.stream().filter(t -> t.getId() == first.getId()).findFirst().orElseThrow();
+        Task storedSecond = tasks.stream().filter(t -> t.getId() == second.getId()).findFirst().orElseThrow();
+        assertEquals("only me", storedFirst.getNotes());
+        assertEquals("", storedSecond.getNotes());
+    }
+
+    // --- PATHS FOR deleteTaskById(long) ---
+
+    @Test
+    public void testDeleteTaskById_existingRow() {
+        LocalDate date = LocalDate.now().plusDays(13);
+        Task task = new Task("Delete me", date);
+        TaskDB.addTask(task);
+
+        assertTrue(TaskDB.deleteTaskById(task.getId()));
+        assertTrue(TaskDB.getTasksForDate(date).stream().noneMatch(t -> t.getId() == task.getId()));
+    }
+
+    @Test
+    public void testDeleteTaskById_missingRowReturnsFalse() {
+        assertFalse(TaskDB.deleteTaskById(-1));
+    }
+
+    @Test
+    public void testDeleteTask_unsavedTaskReturnsFalse() {
+        assertFalse(TaskDB.deleteTask(new Task("Never stored", LocalDate.now())));
+    }
+
+    // --- PATHS FOR getTasksBetween / page / countByDate ---
+
+    @Test
+    public void testGetTasksBetween_inclusiveBoundsAndOrdered() {
+        LocalDate from = LocalDate.of(2097, 3, 10);
+        Task before = new Task("Range before", from.minusDays(1));
+        Task first = new Task("Range first", from);
+        Task last = new Task("Range last", from.plusDays(2));
+        Task after = new Task("Range after", from.plusDays(3));
+        List<Task> added = List.of(before, last, first, after);
+        TaskDB.saveAll(added);
+        try {
+            List<Task> tasks = TaskDB.getTasksBetween(from, from.plusDays(2));
+            assertEquals(2, tasks.size());
+            assertEquals(first.getId(), tasks.get(0).getId());
+            assertEquals(last.getId(), tasks.get(1).getId());
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
+
+    @Test
+    public void testPage_walksEveryRowOnceInDateOrder() {
+        LocalDate date = LocalDate.of(2097, 4, 1);
+        List<Task> added = List.of(
+            new Task("Page A", date), new Task("Page B", date),
+            new Task("Page C", date.plusDays(1)), new Task("Page D", date.plusDays(2)),
+            new Task("Page E", date.plusDays(2))
+        );
+        TaskDB.saveAll(added);
+        try {
+            // Start just before the test rows so only they are paged through
+            TaskDB.Cursor cursor = new TaskDB.Cursor(date.minusDays(1).toEpochDay(), Long.MAX_VALUE);
+            List<Long> seen = new ArrayList<>();
+            int pages = 0;
+            while (cursor != null && seen.size() < added.size()) {
+                TaskDB.Page page = TaskDB.page(cursor, 2);
+                page.tasks().forEach(t -> seen.add(t.getId()));
+                cursor = page.next();
+                pages++;
+            }
+            assertEquals(added.stream().map(Task::getId).toList(), seen.subList(0, added.size()));
+            assertEquals(3, pages);
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
+
+    @Test
+    public void testHistoryPage_skipsTheWindowAndOngoingTasks() {
+        LocalDate date = LocalDate.of(2097, 6, 1);
+        Task before = new Task("History before", date);
+        Task inWindow = new Task("History window", date.plusDays(5));
+        Task ongoing = new Task("History ongoing", date.plusDays(20));
+        Task after = new Task("History after", date.plusDays(20));
+        for (Task t : List.of(before, inWindow, after)) t.setCompleted(true);
+        List<Task> added = List.of(before, inWindow, ongoing, after);
+        TaskDB.saveAll(added);
+        try {
+            TaskDB.Cursor cursor = new TaskDB.Cursor(date.minusDays(1).toEpochDay(), Long.MAX_VALUE);
+            List<Long> seen = new ArrayList<>();
+            while (cursor != null && seen.size() < 2) {
+                TaskDB.Page page = TaskDB.historyPage(cursor, 1, date.plusDays(3), date.plusDays(10));
+                page.tasks().forEach(t -> seen.add(t.getId()));
+                cursor = page.next();
+            }
+            assertEquals(List.of(before.getId(), after.getId()), seen.subList(0, 2));
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
+
+    @Test
+    public void testCountByDate_countsPerDay() {
+        LocalDate date = LocalDate.of(2097, 5, 1);
+        List<Task> added = List.of(
+            new Task("Count A", date), new Task("Count B", date), new Task("Count C", date.plusDays(4))
+        );
+        TaskDB.saveAll(added);
+        try {
+            Map<LocalDate, Integer> counts = TaskDB.countByDate(date, date.plusDays(5));
+            assertEquals(Integer.valueOf(2), counts.get(date));
+            assertEquals(Integer.valueOf(1), counts.get(date.plusDays(4)));
+            assertFalse(counts.containsKey(date.plusDays(1)));
+        } finally {
+            added.forEach(TaskDB::deleteTask);
+        }
+    }
 }
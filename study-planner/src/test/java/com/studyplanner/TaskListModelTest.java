@@ -0,0 +1,130 @@
+package com.studyplanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+import static org.junit.Assert.*;
+
+public class TaskListModelTest {
+
+    private static final LocalDate DAY = LocalDate.of(2096, 4, 1);
+
+    private TaskStore store;
+    private List<Runnable> uiQueue;
+    private TaskListModel model;
+
+    @Before
+    public void setUp() {
+        store = new TaskStore();
+        uiQueue = new ArrayList<>();
+        for (int i = 0; i < 100; i++) store.add(new Task("Existing " + i, DAY.plusDays(i)));
+        model = new TaskListModel(store, uiQueue::add);
+    }
+
+    private void runUi() {
+        List<Runnable> work = new ArrayList<>(uiQueue);
+        uiQueue.clear();
+        work.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testStartsFromStoreSnapshot() {
+        assertEquals(100, model.ongoing().size());
+        assertTrue(model.completed().isEmpty());
+    }
+
+    @Test
+    public void testBatchOfChangesIsOneDrainAndTouchesOnlyChangedRows() {
+        List<ListChangeListener.Change<? extends Task>> ongoingChanges = new ArrayList<>();
+        model.ongoing().addListener((ListChangeListener<Task>) c -> ongoingChanges.add(c));
+
+        Task a = new Task("New A", DAY);
+        Task b = new Task("New B", DAY);
+        store.add(a);
+        store.add(b);
+        Task done = model.ongoing().get(10);
+        done.setCompleted(true);
+
+        assertEquals("Deltas wait for a single UI drain", 1, uiQueue.size());
+        runUi();
+
+        assertEquals(101, model.ongoing().size());
+        assertFalse(model.ongoing().contains(done));
+        assertEquals(List.of(done), model.completed());
+        // The last row fills the removed one, then one bulk add; the other
+        // 98 rows get no events
+        assertEquals(3, ongoingChanges.size());
+    }
+
+    @Test
+    public void testChangesThatCancelOutLeaveListsAlone() {
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        model.ongoing().addListener((ListChangeListener<Task>) c -> changes.add(c));
+
+        Task t = new Task("Flicker", DAY);
+        store.add(t);
+        store.remove(t);
+        Task reopened = model.ongoing().get(0);
+        reopened.setCompleted(true);
+        reopened.revertCompleted();
+        runUi();
+
+        assertTrue(changes.isEmpty());
+        assertEquals(100, model.ongoing().size());
+        assertTrue(model.completed().isEmpty());
+    }
+
+    @Test
+    public void testEditedRowIsReplacedInPlace() {
+        Task edited = model.ongoing().get(5);
+        edited.setPriority("High");
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        model.ongoing().addListener((ListChangeListener<Task>) c -> changes.add(c));
+        runUi();
+
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Task> c = changes.get(0);
+        assertTrue(c.next());
+        assertTrue(c.wasReplaced());
+        assertEquals(5, c.getFrom());
+        assertSame(edited, model.ongoing().get(5));
+    }
+
+    @Test
+    public void testRemovedTaskLeavesItsList() {
+        Task gone = model.ongoing().get(3);
+        store.remove(gone);
+        runUi();
+        assertEquals(99, model.ongoing().size());
+        assertFalse(model.ongoing().contains(gone));
+    }
+
+    @Test
+    public void testRowIndexStaysRightAcrossManyRemovals() {
+        List<Task> all = new ArrayList<>(model.ongoing());
+        for (int i = 0; i < all.size(); i += 3) store.remove(all.get(i));
+        runUi();
+        assertEquals(66, model.ongoing().size());
+
+        // Every remaining row can still be found and re-set where it sits
+        for (Task t : new ArrayList<>(model.ongoing())) t.setPriority("Low");
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        model.ongoing().addListener((ListChangeListener<Task>) c -> changes.add(c));
+        runUi();
+        assertEquals(66, changes.size());
+        for (ListChangeListener.Change<? extends Task> c : changes) {
+            assertTrue(c.next());
+            assertTrue(c.wasReplaced());
+            assertSame(c.getRemoved().get(0), c.getAddedSubList().get(0));
+        }
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(i % 3 != 0, model.ongoing().contains(all.get(i)));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TaskOrderTest {
+
+    private static final LocalDate DAY = LocalDate.of(2096, 5, 1);
+
+    private static Task task(long id, LocalDate date, String priority, int complexity) {
+        Task t = new Task("T" + id, date);
+        t.setId(id);
+        t.setPriority(priority);
+        t.setComplexity(complexity);
+        return t;
+    }
+
+    @Test
+    public void testSortKeysFollowFields() {
+        Task t = new Task("Keys", DAY);
+        assertEquals(DAY.toEpochDay(), t.getDueEpochDay());
+        assertEquals(1, t.getPriorityRank());
+        t.setPriority("High");
+        assertEquals(0, t.getPriorityRank());
+        t.setPriority((TaskPriority) null);
+        assertEquals("No priority sorts last", 3, t.getPriorityRank());
+        assertEquals(Long.MAX_VALUE, new Task("No date", null).getDueEpochDay());
+    }
+
+    @Test
+    public void testDueDateBreaksTiesOnPriorityThenId() {
+        Task lowToday = task(1, DAY, "Low", 5);
+        Task highToday = task(2, DAY, "High", 5);
+        Task highTodayLater = task(3, DAY, "High", 5);
+        Task tomorrow = task(4, DAY.plusDays(1), "High", 5);
+        List<Task> tasks = new ArrayList<>(List.of(tomorrow, lowToday, highTodayLater, highToday));
+
+        tasks.sort(TaskOrder.BY_DUE_DATE);
+        assertEquals(List.of(highToday, highTodayLater, lowToday, tomorrow), tasks);
+    }
+
+    @Test
+    public void testPriorityAndComplexityBreakTiesOnDate() {
+        Task highLater = task(1, DAY.plusDays(2), "High", 3);
+        Task highSooner = task(2, DAY, "High", 8);
+        Task medium = task(3, DAY, "Medium", 3);
+        List<Task> tasks = new ArrayList<>(List.of(medium, highLater, highSooner));
+
+        tasks.sort(TaskOrder.forChoice("Priority"));
+        assertEquals(List.of(highSooner, highLater, medium), tasks);
+
+        tasks.sort(TaskOrder.forChoice("Complexity"));
+        assertEquals(List.of(medium, highLater, highSooner), tasks);
+
+        assertSame(TaskOrder.BY_DUE_DATE, TaskOrder.forChoice("Due Date"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.studyplanner;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loads 1M tasks the way the planner did before the row mapper and the
+ * way it does now, each from a scratch database in its own layout:
+ *
+ * <ul>
+ *   <li>before: the original table of ISO date strings, priority labels and
+ *       category names, read with the original {@code loadAllTasks} loop
+ *       (columns by name, ISO parsing, try/catch per optional column);</li>
+ *   <li>now: the migrated table of epoch numbers and codes, read with
+ *       {@link TaskRowMapper#mapAll}.</li>
+ * </ul>
+ *
+ * Each load is a full {@code SELECT *} plus mapping, as at startup. Rounds
+ * of the two alternate and the median is reported. Not a unit test; after
+ * {@code mvn test-compile} run its main method with the test classpath and
+ * about 2 GB of heap.
+ */
+public class TaskRowMapperBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final String[] CATEGORIES = { "General", "Lab", "Reading", "Exam", "Project" };
+    private static final String[] PRIORITIES = { "High", "Medium", "Low" };
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+
+    public static void main(String[] args) throws Exception {
+        File legacyFile = File.createTempFile("mapper-benchmark-legacy", ".db");
+        File currentFile = File.createTempFile("mapper-benchmark-current", ".db");
+        try (Connection legacy = DriverManager.getConnection("jdbc:sqlite:" + legacyFile.getPath());
+             Connection current = DriverManager.getConnection("jdbc:sqlite:" + currentFile.getPath())) {
+            fillLegacy(legacy);
+            TaskSchema.MIGRATIONS.migrate(current);
+            fillCurrent(current);
+
+            long[][] load = new long[2][ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                load[0][round] = timeLoad(legacy, TaskRowMapperBenchmark::mapLikeBefore);
+                load[1][round] = timeLoad(current, TaskRowMapper::mapAll);
+            }
+            print("before: ISO strings, columns by name", load[0]);
+            print("now:    epoch columns, TaskRowMapper", load[1]);
+        } finally {
+            legacyFile.delete();
+            currentFile.delete();
+        }
+    }
+
+    private interface Mapping {
+        List<Task> map(ResultSet rs) throws SQLException;
+    }
+
+    private static void fillLegacy(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE tasks (
+                    title TEXT, date TEXT, completed INTEGER, priority TEXT, complexity INTEGER,
+                    category TEXT, notes TEXT, createdAt TEXT, startTime TEXT,
+                    durationSeconds INTEGER, timerEnabled INTEGER
+                )""");
+        }
+        conn.setAutoCommit(false);
+        Random random = new Random(42);
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO tasks (title, date, completed, priority, complexity, category, notes, createdAt,"
+                    + " startTime, durationSeconds, timerEnabled) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate date = BASE.plusDays(random.nextInt(3650));
+                ps.setString(1, "Task " + i);
+                ps.setString(2, date.toString());
+                ps.setInt(3, random.nextInt(4) == 0 ? 1 : 0);
+                ps.setString(4, PRIORITIES[random.nextInt(3)]);
+                ps.setInt(5, 1 + random.nextInt(10));
+                ps.setString(6, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                ps.setString(7, "");
+                ps.setString(8, date.atStartOfDay().toString());
+                ps.setString(9, date.atStartOfDay().plusSeconds(random.nextInt(86_400)).toString());
+                ps.setLong(10, 1800);
+                ps.setInt(11, random.nextInt(2));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+    }
+
+    private static void fillCurrent(Connection conn) throws SQLException {
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            for (String c : CATEGORIES) stmt.executeUpdate("INSERT INTO categories (name) VALUES ('" + c + "')");
+        }
+        Random random = new Random(42);
+        try (PreparedStatement ps = conn.prepareStatement(
+                "INSERT INTO tasks (title, date, completed, priority, complexity, category, notes, createdAt,"
+                    + " startTime, durationSeconds, timerEnabled) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                LocalDate date = BASE.plusDays(random.nextInt(3650));
+                ps.setString(1, "Task " + i);
+                ps.setLong(2, date.toEpochDay());
+                ps.setInt(3, random.nextInt(4) == 0 ? 1 : 0);
+                ps.setInt(4, random.nextInt(3));
+                ps.setInt(5, 1 + random.nextInt(10));
+                ps.setInt(6, 1 + random.nextInt(CATEGORIES.length));
+                ps.setString(7, "");
+                ps.setLong(8, TaskSchema.epochSecond(date.atStartOfDay()));
+                ps.setLong(9, TaskSchema.epochSecond(date.atStartOfDay()) + random.nextInt(86_400));
+                ps.setLong(10, 1800);
+                ps.setInt(11, random.nextInt(2));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        conn.commit();
+        conn.setAutoCommit(true);
+    }
+
+    // The loadAllTasks loop as it was before the row mapper, unchanged but for the result set it is given
+    private static List<Task> mapLikeBefore(ResultSet rs) throws SQLException {
+        List<Task> tasks = new ArrayList<>();
+        while (rs.next()) {
+            String title = rs.getString("title");
+            LocalDate date = LocalDate.parse(rs.getString("date"));
+            boolean completed = rs.getInt("completed") != 0;
+            String priority = rs.getString("priority");
+            int complexity = rs.getInt("complexity");
+            String category = rs.getString("category");
+            String notes = rs.getString("notes");
+            LocalDateTime createdAt = LocalDateTime.parse(rs.getString("createdAt"));
+
+            // For older rows these columns may be NULL
+            String startTimeStr = rs.getString("startTime");
+            LocalDateTime startTime = (startTimeStr != null)
+                ? LocalDateTime.parse(startTimeStr)
+                : LocalDateTime.now();
+
+            long durSecs = 0;
+            try { durSecs = rs.getLong("durationSeconds"); }
+            catch (SQLException ignore) { /* missing or null → 0 */ }
+            Duration duration = Duration.ofSeconds(durSecs > 0 ? durSecs : 30 * 60);
+
+            boolean timerEnabled = false;
+            try { timerEnabled = rs.getInt("timerEnabled") != 0; }
+            catch (SQLException ignore) { /* missing → false */ }
+
+            Task t = new Task(
+                title, date, completed,
+                priority, complexity,
+                category, notes, createdAt,
+                startTime, duration, timerEnabled
+            );
+            tasks.add(t);
+        }
+        return tasks;
+    }
+
+    private static long timeLoad(Connection conn, Mapping mapping) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            long start = System.nanoTime();
+            try (ResultSet rs = stmt.executeQuery("SELECT * FROM tasks")) {
+                if (mapping.map(rs).size() != ROWS) throw new IllegalStateException("Lost rows");
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static void print(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s: %8.1f ms median for %,d rows (min %.1f, max %.1f)%n", label,
+            sorted[sorted.length / 2] / 1_000_000.0, ROWS, sorted[0] / 1_000_000.0,
+            sorted[sorted.length - 1] / 1_000_000.0);
+    }
+}
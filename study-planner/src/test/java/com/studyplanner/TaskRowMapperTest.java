@@ -0,0 +1,90 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TaskRowMapperTest {
+
+    private Connection conn;
+
+    @Before
+    public void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:sqlite::memory:");
+        SchemaMigrator.execute(conn, "CREATE TABLE categories (id INTEGER PRIMARY KEY, name TEXT NOT NULL UNIQUE)");
+        SchemaMigrator.execute(conn, "INSERT INTO categories VALUES (1, 'General'), (2, 'Lab')");
+        SchemaMigrator.execute(conn, """
+            CREATE TABLE tasks (
+                id INTEGER PRIMARY KEY, title TEXT, date INTEGER, completed INTEGER,
+                priority INTEGER, complexity INTEGER, category INTEGER, notes TEXT,
+                createdAt INTEGER, startTime INTEGER, durationSeconds INTEGER, timerEnabled INTEGER
+            )
+        """);
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        conn.close();
+    }
+
+    private List<Task> loadAll() throws SQLException {
+        try (ResultSet rs = conn.createStatement().executeQuery("SELECT * FROM tasks ORDER BY id")) {
+            return TaskRowMapper.mapAll(rs);
+        }
+    }
+
+    @Test
+    public void testMapsEpochIntegerColumns() throws SQLException {
+        LocalDate date = LocalDate.of(2025, 3, 4);
+        LocalDateTime created = LocalDateTime.of(2025, 3, 1, 8, 30, 15);
+        LocalDateTime start = LocalDateTime.of(2025, 3, 4, 9, 0);
+        SchemaMigrator.execute(conn, "INSERT INTO tasks VALUES (7, 'Epoch', " + date.toEpochDay()
+            + ", 1, 0, 4, 2, 'n', " + created.toEpochSecond(ZoneOffset.UTC)
+            + ", " + start.toEpochSecond(ZoneOffset.UTC) + ", 900, 1)");
+
+        Task t = loadAll().get(0);
+        assertEquals(7, t.getId());
+        assertEquals(date, t.getDate());
+        assertTrue(t.isCompleted());
+        assertEquals(created, t.getCreatedAt());
+        assertEquals(start, t.getStartTime());
+        assertEquals(Duration.ofMinutes(15), t.getDuration());
+        assertTrue(t.isTimerEnabled());
+        assertEquals(TaskPriority.HIGH, t.getPriorityLevel());
+        assertEquals("Lab", t.getCategory());
+    }
+
+    @Test
+    public void testNullCodesMapToNoPriorityOrCategory() throws SQLException {
+        SchemaMigrator.execute(conn, "INSERT INTO tasks VALUES (1, 'Bare', 20295, 0, NULL, 5, NULL, '', 1753572805, NULL, NULL, NULL)");
+
+        Task t = loadAll().get(0);
+        assertNull(t.getPriorityLevel());
+        assertNull(t.getCategory());
+    }
+
+    @Test
+    public void testNullTimerColumnsFallBackToDefaults() throws SQLException {
+        SchemaMigrator.execute(conn, """
+            INSERT INTO tasks VALUES (1, 'Legacy', 20295, 0, 1, 5, 1, '',
+              1753572805, NULL, NULL, NULL)
+        """);
+
+        Task t = loadAll().get(0);
+        assertNotNull(t.getStartTime());
+        assertEquals(Duration.ofMinutes(30), t.getDuration());
+        assertFalse(t.isTimerEnabled());
+    }
+}
@@ -0,0 +1,62 @@
+package com.studyplanner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Times sorting 100k tasks by TaskOrder's precomputed keys against the same
+ * orderings computed from the fields, with the priority looked up in a list
+ * on every comparison as the old comparator did. Not a unit test; after {@code mvn test-compile} run its
+ * main method with the test classpath.
+ */
+public class TaskSortBenchmark {
+
+    private static final int TASKS = 100_000;
+    private static final int ROUNDS = 20;
+    private static final String[] PRIORITIES = { "High", "Medium", "Low" };
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task t = new Task("Task " + i, LocalDate.of(2025, 1, 1).plusDays(random.nextInt(3650)));
+            t.setId(i + 1);
+            t.setPriority(PRIORITIES[random.nextInt(3)]);
+            t.setComplexity(1 + random.nextInt(10));
+            tasks.add(t);
+        }
+
+        // The same orderings TaskOrder defines, computed from the fields as before
+        List<String> order = Arrays.asList("High", "Medium", "Low");
+        Comparator<Task> oldPriority = Comparator
+            .comparingInt((Task task) -> order.indexOf(task.getPriority()))
+            .thenComparing(Task::getDate)
+            .thenComparingLong(Task::getId);
+        Comparator<Task> oldDate = Comparator
+            .comparing(Task::getDate)
+            .thenComparingInt(task -> order.indexOf(task.getPriority()))
+            .thenComparingLong(Task::getId);
+
+        report("priority, list lookup", tasks, oldPriority);
+        report("priority, precomputed", tasks, TaskOrder.BY_PRIORITY);
+        report("due date, LocalDate  ", tasks, oldDate);
+        report("due date, precomputed", tasks, TaskOrder.BY_DUE_DATE);
+    }
+
+    private static void report(String label, List<Task> tasks, Comparator<Task> comparator) {
+        // First rounds warm the JIT; the rest are timed
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Task> copy = new ArrayList<>(tasks);
+            long start = System.nanoTime();
+            copy.sort(comparator);
+            long elapsed = System.nanoTime() - start;
+            if (round >= ROUNDS / 2) best = Math.min(best, elapsed);
+        }
+        System.out.printf("%s: %6.1f ms per sort of %,d tasks%n", label, best / 1_000_000.0, tasks.size());
+    }
+}
@@ -0,0 +1,297 @@
+package com.studyplanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class TaskStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2096, 3, 1);
+
+    private TaskStore store;
+    private List<String> changes;
+
+    @Before
+    public void setUp() {
+        store = new TaskStore();
+        changes = new ArrayList<>();
+        store.addListener((t, change) -> changes.add(t.getTitle() + ":" + change));
+    }
+
+    @Test
+    public void testAddIndexesByStatusPriorityAndCategory() {
+        Task a = new Task("A", DAY);
+        a.setPriority("High");
+        Task b = new Task("B", DAY);
+        b.setCompleted(true);
+
+        store.add(a);
+        store.add(b);
+
+        assertEquals(List.of(a), store.ongoing());
+        assertEquals(List.of(b), store.completed());
+        assertTrue(store.withPriority(TaskPriority.HIGH).contains(a));
+        assertTrue(store.withPriority(TaskPriority.MEDIUM).contains(b));
+        assertEquals(2, store.inCategory("General").size());
+        assertEquals(List.of(a, b), store.tasksOn(DAY));
+        assertEquals(List.of("A:ADDED", "B:ADDED"), changes);
+        assertFalse("Adding twice is a no-op", store.add(a));
+    }
+
+    @Test
+    public void testSettersMoveTaskBetweenBuckets() {
+        Task t = new Task("Moves", DAY);
+        store.add(t);
+
+        t.setCompleted(true);
+        assertTrue(store.ongoing().isEmpty());
+        assertEquals(List.of(t), store.completed());
+
+        t.revertCompleted();
+        assertEquals(List.of(t), store.ongoing());
+
+        t.setPriority("Low");
+        assertTrue(store.withPriority(TaskPriority.MEDIUM).isEmpty());
+        assertTrue(store.withPriority(TaskPriority.LOW).contains(t));
+
+        t.setCategory("Exams");
+        assertTrue(store.inCategory("General").isEmpty());
+        assertTrue(store.inCategory("Exams").contains(t));
+
+        assertEquals(List.of("Moves:ADDED", "Moves:COMPLETED", "Moves:REOPENED",
+            "Moves:EDITED", "Moves:EDITED"), changes);
+    }
+
+    @Test
+    public void testRemovedTaskNoLongerNotifies() {
+        Task t = new Task("Gone", DAY);
+        store.add(t);
+        assertTrue(store.remove(t));
+        t.setCompleted(true);
+
+        assertEquals(0, store.size());
+        assertTrue(store.completed().isEmpty());
+        assertTrue(store.tasksOn(DAY).isEmpty());
+        assertEquals(List.of("Gone:ADDED", "Gone:REMOVED"), changes);
+    }
+
+    @Test
+    public void testByDateViewFollowsTheStore() {
+        Task t = new Task("View", DAY);
+        store.add(t);
+        assertTrue(store.byDate().containsKey(DAY));
+        assertEquals(List.of(t), store.byDate().get(DAY));
+
+        store.remove(t);
+        assertFalse(store.byDate().containsKey(DAY));
+        assertNull(store.byDate().get(DAY));
+    }
+
+    @Test
+    public void testByDateViewRejectsWrites() {
+        Task t = new Task("Dropped", DAY);
+        try {
+            store.byDate().computeIfAbsent(DAY, d -> new ArrayList<>()).add(t);
+            fail("computeIfAbsent on the view must not hand back a detached list");
+        } catch (UnsupportedOperationException expected) { }
+        try {
+            store.byDate().put(DAY, List.of(t));
+            fail("put on the view must throw");
+        } catch (UnsupportedOperationException expected) { }
+        try {
+            store.byDate().clear();
+            fail("clear on the view must throw");
+        } catch (UnsupportedOperationException expected) { }
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testSecondCopyOfAStoredRowIsNotAdded() {
+        Task kept = new Task("Kept", DAY);
+        store.add(kept);
+        kept.setId(42);  // saved after it was added
+        assertTrue(store.containsId(42));
+
+        Task reloaded = new Task("Kept", DAY);
+        reloaded.setId(42);
+        assertFalse(store.add(reloaded));
+        assertEquals(List.of(kept), store.tasksOn(DAY));
+
+        store.remove(kept);
+        assertFalse(store.containsId(42));
+        assertTrue(store.add(reloaded));
+    }
+
+    @Test
+    public void testRangeQueriesSliceByDate() {
+        Task before = new Task("Before", DAY.minusDays(1));
+        Task first = new Task("First", DAY);
+        Task last = new Task("Last", DAY.plusDays(6));
+        Task after = new Task("After", DAY.plusDays(7));
+        Task doneEarly = new Task("Done early", DAY.minusDays(3));
+        doneEarly.setCompleted(true);
+        store.addAll(List.of(after, first, before, last, doneEarly));
+
+        assertEquals(List.of(first, last), store.between(DAY, DAY.plusDays(6)));
+        assertEquals(List.of(first, last), store.upcoming(DAY, 7));
+        assertEquals(List.of(first), store.upcoming(DAY, 1));
+        assertTrue(store.upcoming(DAY, 0).isEmpty());
+        assertEquals("Completed tasks are not overdue", List.of(before), store.overdue(DAY));
+        assertEquals(DAY.minusDays(3), store.firstDate());
+        assertEquals(DAY.plusDays(7), store.lastDate());
+        assertEquals(Integer.valueOf(1), store.countByDate(DAY, DAY.plusDays(30)).get(DAY.plusDays(7)));
+        assertEquals(List.of(DAY.minusDays(3), DAY.minusDays(1), DAY, DAY.plusDays(6), DAY.plusDays(7)),
+            new ArrayList<>(store.byDate().keySet()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testByDateListsAreReadOnly() {
+        store.add(new Task("Read only", DAY));
+        store.byDate().get(DAY).add(new Task("Sneaky", DAY));
+    }
+
+    // --- Concurrency ---
+
+    private static final int WRITERS = 8;
+    private static final int TASKS_PER_WRITER = 5_000;
+
+    @Test
+    public void testConcurrentWritersKeepIndexesConsistent() throws Exception {
+        TaskStore shared = new TaskStore();
+        List<Task> kept = Collections.synchronizedList(new ArrayList<>());
+
+        runConcurrently(WRITERS, w -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < TASKS_PER_WRITER; i++) {
+                // Few days, so writers keep colliding on the same day lists
+                Task t = new Task("W" + w + "-" + i, DAY.plusDays(random.nextInt(10)));
+                shared.add(t);
+                if (i % 2 == 0) t.setCompleted(true);
+                if (i % 3 == 0) t.setPriority("High");
+                if (i % 4 == 0) {
+                    shared.remove(t);
+                } else {
+                    kept.add(t);
+                }
+            }
+        });
+
+        assertEquals(kept.size(), shared.size());
+        Set<Task> expected = new HashSet<>(kept);
+        Set<Task> byDay = new HashSet<>(shared.between(DAY, DAY.plusDays(9)));
+        assertEquals(expected, byDay);
+        assertEquals(expected, new HashSet<>(shared.inCategory("General")));
+
+        Set<Task> ongoing = new HashSet<>(shared.ongoing());
+        Set<Task> completed = new HashSet<>(shared.completed());
+        Set<Task> high = shared.withPriority(TaskPriority.HIGH);
+        for (Task t : kept) {
+            assertTrue((t.isCompleted() ? completed : ongoing).contains(t));
+            assertEquals(t.getPriority().equals("High"), high.contains(t));
+        }
+    }
+
+    @Test
+    public void testSnapshotsNeverSeeAHalfFinishedCompletion() throws Exception {
+        TaskStore shared = new TaskStore();
+        List<Task> all = new ArrayList<>();
+        for (int i = 0; i < WRITERS * TASKS_PER_WRITER; i++) {
+            all.add(new Task("S" + i, DAY.plusDays(i % 30)));
+        }
+        shared.addAll(all);
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        List<Future<Integer>> checks = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            checks.add(readers.submit(() -> {
+                int snapshots = 0;
+                int lastCompleted = 0;
+                while (writing.get() || snapshots == 0) {
+                    TaskStore.Snapshot snap = shared.snapshot();
+                    assertEquals(all.size(), snap.ongoing().size() + snap.completed().size());
+                    Set<Task> seen = new HashSet<>(snap.ongoing());
+                    for (Task t : snap.completed()) assertTrue("Task in both lists", seen.add(t));
+                    // Completion is sticky, so the completed side only grows
+                    assertTrue(snap.completed().size() >= lastCompleted);
+                    lastCompleted = snap.completed().size();
+                    snapshots++;
+                }
+                return snapshots;
+            }));
+        }
+
+        try {
+            runConcurrently(WRITERS, w -> {
+                for (int i = w; i < all.size(); i += WRITERS) all.get(i).setCompleted(true);
+            });
+        } finally {
+            writing.set(false);
+        }
+        for (Future<Integer> check : checks) assertTrue(check.get(30, TimeUnit.SECONDS) > 0);
+        readers.shutdown();
+
+        TaskStore.Snapshot done = shared.snapshot();
+        assertTrue(done.ongoing().isEmpty());
+        assertEquals(all.size(), done.completed().size());
+    }
+
+    @Test
+    public void testAddAndRemoveRacingOnOneDayLosesNothing() throws Exception {
+        TaskStore shared = new TaskStore();
+        Set<Task> survivors = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(WRITERS, w -> {
+            for (int i = 0; i < TASKS_PER_WRITER; i++) {
+                // Each writer empties the day list on every other step
+                Task t = new Task("R" + w + "-" + i, DAY);
+                shared.add(t);
+                if (i % 2 == 0) shared.remove(t); else survivors.add(t);
+            }
+        });
+
+        assertEquals(survivors, new HashSet<>(shared.tasksOn(DAY)));
+        assertEquals(Integer.valueOf(survivors.size()), shared.countByDate(DAY, DAY).get(DAY));
+    }
+
+    private interface Writer {
+        void run(int writer) throws Exception;
+    }
+
+    /** Starts {@code threads} writers together and waits for all of them, rethrowing any failure. */
+    private static void runConcurrently(int threads, Writer writer) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            int id = w;
+            futures.add(pool.submit(() -> {
+                start.await();
+                writer.run(id);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.studyplanner;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Times two reports over 500k tasks, workload per day and completion rate
+ * per category, once by walking Task objects and once over a TaskTable.
+ * Also prints the heap each layout takes. Not a unit test; after
+ * {@code mvn test-compile} run its main method with the test classpath.
+ */
+public class TaskTableBenchmark {
+
+    private static final int TASKS = 500_000;
+    private static final int ROUNDS = 20;
+    private static final LocalDate FIRST = LocalDate.of(2025, 1, 1);
+    private static final LocalDate LAST = FIRST.plusDays(364);
+    private static final String[] CATEGORIES = { "General", "Lab", "Exam", "Reading", "Project" };
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        long before = usedHeap();
+        List<Task> tasks = createTasks();
+        long objectBytes = usedHeap() - before;
+
+        before = usedHeap();
+        TaskTable table = TaskTable.of(tasks);
+        long tableBytes = usedHeap() - before;
+        System.out.printf("heap: objects %,d KB, table %,d KB%n", objectBytes / 1024, tableBytes / 1024);
+
+        time("workload per day, objects ", () -> durationPerDay(tasks));
+        time("workload per day, columns ", () -> table.durationPerDay(FIRST, LAST));
+        time("completion by category, objects", () -> completionRateByCategory(tasks));
+        time("completion by category, columns", table::completionRateByCategory);
+    }
+
+    private static List<Task> createTasks() {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            LocalDate date = FIRST.plusDays(random.nextInt(365));
+            tasks.add(new Task("Task " + i, date, random.nextBoolean(), "Medium", 1 + random.nextInt(10),
+                CATEGORIES[random.nextInt(CATEGORIES.length)], "", LocalDateTime.now(),
+                date.atTime(9, 0), Duration.ofMinutes(15 + random.nextInt(120)), false));
+        }
+        return tasks;
+    }
+
+    // The object-scan versions a report would write today
+    private static long[] durationPerDay(List<Task> tasks) {
+        long[] totals = new long[(int) (LAST.toEpochDay() - FIRST.toEpochDay() + 1)];
+        for (Task t : tasks) {
+            LocalDate d = t.getDate();
+            if (d != null && !d.isBefore(FIRST) && !d.isAfter(LAST)) {
+                totals[(int) (d.toEpochDay() - FIRST.toEpochDay())] += t.getDuration().getSeconds();
+            }
+        }
+        return totals;
+    }
+
+    private static Map<String, Double> completionRateByCategory(List<Task> tasks) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (Task t : tasks) {
+            int[] c = counts.computeIfAbsent(t.getCategory(), k -> new int[2]);
+            c[0]++;
+            if (t.isCompleted()) c[1]++;
+        }
+        Map<String, Double> rates = new HashMap<>();
+        counts.forEach((k, c) -> rates.put(k, (double) c[1] / c[0]));
+        return rates;
+    }
+
+    private static void time(String label, Supplier<Object> report) {
+        // First rounds warm the JIT; the rest are timed
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink = report.get();
+            long elapsed = System.nanoTime() - start;
+            if (round >= ROUNDS / 2) best = Math.min(best, elapsed);
+        }
+        System.out.printf("%s: %6.2f ms%n", label, best / 1_000_000.0);
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,96 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TaskTableTest {
+
+    private static final LocalDate DAY = LocalDate.of(2096, 5, 1);
+
+    private static Task task(LocalDate date, String category, int minutes, boolean completed) {
+        return new Task("T", date, completed, "Low", 3, category, "",
+            LocalDateTime.of(2096, 4, 1, 9, 0), DAY.atTime(10, 0), Duration.ofMinutes(minutes), false);
+    }
+
+    @Test
+    public void testColumnsHoldEachTasksValues() {
+        Task t = task(DAY, "Reading", 45, true);
+        t.setId(12);
+        TaskTable table = TaskTable.of(List.of(t, new Task("Bare", null, LocalTime.NOON, false)));
+
+        assertEquals(2, table.size());
+        assertEquals(12, table.id(0));
+        assertEquals(DAY.toEpochDay(), table.epochDay(0));
+        assertEquals(3, table.complexity(0));
+        assertEquals(TaskPriority.LOW.code(), table.priorityCode(0));
+        assertEquals("Reading", table.category(0));
+        assertEquals(TaskSchema.epochSecond(DAY.atTime(10, 0)), table.startEpochSecond(0));
+        assertEquals(45 * 60, table.durationSeconds(0));
+        assertTrue(table.isCompleted(0));
+
+        assertEquals(TaskTable.NO_DATE, table.epochDay(1));
+        assertEquals(TaskTable.NO_START, table.startEpochSecond(1));
+        assertEquals(TaskTable.NO_PRIORITY, table.priorityCode(1));
+        assertNull(table.category(1));
+        assertFalse(table.isCompleted(1));
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        TaskTable table = new TaskTable(1);
+        for (int i = 0; i < 1000; i++) table.add(task(DAY.plusDays(i), "Grow", i, i % 2 == 0));
+        assertEquals(1000, table.size());
+        assertEquals(999 * 60, table.durationSeconds(999));
+        assertEquals(DAY.plusDays(999).toEpochDay(), table.epochDay(999));
+    }
+
+    @Test
+    public void testDurationPerDaySumsEachDayInRange() {
+        TaskTable table = TaskTable.of(List.of(
+            task(DAY, "A", 30, false),
+            task(DAY, "A", 15, false),
+            task(DAY.plusDays(2), "A", 60, false),
+            task(DAY.minusDays(1), "A", 999, false),
+            task(DAY.plusDays(3), "A", 999, false)));
+
+        assertArrayEquals(new long[] { 45 * 60, 0, 60 * 60 }, table.durationPerDay(DAY, DAY.plusDays(2)));
+        assertEquals(0, table.durationPerDay(DAY, DAY.minusDays(1)).length);
+    }
+
+    @Test
+    public void testCompletionRateByCategory() {
+        TaskTable table = TaskTable.of(List.of(
+            task(DAY, "Rate A", 1, true),
+            task(DAY, "Rate A", 1, false),
+            task(DAY, "Rate B", 1, true)));
+
+        Map<String, Double> rates = table.completionRateByCategory();
+        assertEquals(0.5, rates.get("Rate A"), 1e-9);
+        assertEquals(1.0, rates.get("Rate B"), 1e-9);
+    }
+
+    @Test
+    public void testRangeScanVisitsOnlyRowsInRange() {
+        TaskTable table = TaskTable.of(List.of(
+            task(DAY.minusDays(1), "S", 1, false),
+            task(DAY, "S", 1, false),
+            task(DAY.plusDays(1), "S", 1, false)));
+        List<Integer> rows = new ArrayList<>();
+        table.scan(DAY, DAY.plusDays(5), rows::add);
+        assertEquals(List.of(1, 2), rows);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRowOutsideTableIsRejected() {
+        new TaskTable().epochDay(0);
+    }
+}
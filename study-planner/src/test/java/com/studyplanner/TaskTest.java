@@ -155,18 +155,16 @@ public class TaskTest {
 
     // --- Priority: Invalid Equivalence Classes ---
 
-    @Test
+    @Test(expected = IllegalArgumentException.class)
     public void testInvalidPriorityString() {
         Task task = new Task("Invalid Priority", LocalDate.now());
-        task.setPriority("Urgent");  // invalid class (not enforced)
-        assertEquals("Urgent", task.getPriority());  // Current model allows it
+        task.setPriority("Urgent");  // invalid class, rejected by TaskPriority
     }
 
-    @Test
+    @Test(expected = IllegalArgumentException.class)
     public void testEmptyPriority() {
         Task task = new Task("Invalid Priority", LocalDate.now());
         task.setPriority("");  // invalid class (empty string)
-        assertEquals("", task.getPriority());  // Allowed for now
     }
 
     // --- Complexity: Valid Equivalence Class ---
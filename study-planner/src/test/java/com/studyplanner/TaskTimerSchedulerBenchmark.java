@@ -0,0 +1,72 @@
+package com.studyplanner;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules 100k timer starts spread over ten seconds on one
+ * TaskTimerScheduler and reports the heap the pending starts take and how
+ * late each one fires. Not a unit test; after {@code mvn test-compile} run
+ * its main method with the test classpath.
+ */
+public class TaskTimerSchedulerBenchmark {
+
+    private static final int TASKS = 100_000;
+    private static final long SPREAD_MILLIS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task t = new Task("Timer " + i, LocalDate.now());
+            t.setTimerEnabled(true);
+            tasks.add(t);
+        }
+
+        long[] due = new long[TASKS];
+        long[] fired = new long[TASKS];
+        CountDownLatch done = new CountDownLatch(TASKS);
+        TaskTimerScheduler timers = new TaskTimerScheduler(Runnable::run, t -> {
+            int i = (int) t.getId();
+            fired[i] = System.currentTimeMillis();
+            done.countDown();
+        });
+
+        long before = usedHeap();
+        long first = System.currentTimeMillis() + 2_000;
+        long scheduleStart = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            Task t = tasks.get(i);
+            t.setId(i);
+            due[i] = first + (i * 7919L) % SPREAD_MILLIS; // shuffled, not in due order
+            t.setStartTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(due[i]), ZoneId.systemDefault()));
+            timers.update(t);
+        }
+        long scheduleNanos = System.nanoTime() - scheduleStart;
+        long pendingBytes = usedHeap() - before;
+
+        if (!done.await(60, TimeUnit.SECONDS)) throw new IllegalStateException("Timers did not all fire");
+        timers.close();
+
+        long[] late = new long[TASKS];
+        for (int i = 0; i < TASKS; i++) late[i] = fired[i] - due[i];
+        Arrays.sort(late);
+        System.out.printf("scheduled %,d starts in %.1f ms; pending heap about %,d KB (%d bytes each)%n",
+            TASKS, scheduleNanos / 1e6, pendingBytes / 1024, pendingBytes / TASKS);
+        System.out.printf("lateness ms: min %d, p50 %d, p99 %d, p99.9 %d, max %d%n",
+            late[0], late[TASKS / 2], late[TASKS * 99 / 100], late[TASKS * 999 / 1000], late[TASKS - 1]);
+        System.out.println("worker threads: 1");
+    }
+
+    private static long usedHeap() {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) System.gc();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
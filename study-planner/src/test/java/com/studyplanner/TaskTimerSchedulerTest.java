@@ -0,0 +1,107 @@
+package com.studyplanner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TaskTimerSchedulerTest {
+
+    private BlockingQueue<Task> started;
+    private TaskTimerScheduler timers;
+
+    @Before
+    public void setUp() {
+        started = new LinkedBlockingQueue<>();
+        timers = new TaskTimerScheduler(Runnable::run, started::add);
+    }
+
+    @After
+    public void tearDown() {
+        timers.close();
+    }
+
+    private static Task timed(String title, LocalDateTime start) {
+        Task t = new Task(title, LocalDate.now());
+        t.setStartTime(start);
+        t.setTimerEnabled(true);
+        return t;
+    }
+
+    private Task next() throws InterruptedException {
+        return started.poll(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFiresInDueOrderWhateverTheScheduleOrder() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Task late = timed("Late", now.plusNanos(300_000_000));
+        Task early = timed("Early", now.plusNanos(100_000_000));
+        timers.update(late);
+        timers.update(early);
+        assertEquals(2, timers.pending());
+
+        assertSame(early, next());
+        assertSame(late, next());
+        assertEquals(0, timers.pending());
+    }
+
+    @Test
+    public void testPastStartFiresImmediatelyButOnlyOnce() throws Exception {
+        Task t = timed("Past", LocalDateTime.now().minusMinutes(5));
+        timers.update(t);
+        assertSame(t, next());
+
+        // An unrelated edit brings the same start back; it must not fire again
+        timers.update(t);
+        assertNull(started.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testCancelAndCompletionStopAPendingStart() throws Exception {
+        Task cancelled = timed("Cancelled", LocalDateTime.now().plusNanos(150_000_000));
+        Task completed = timed("Completed", LocalDateTime.now().plusNanos(150_000_000));
+        Task disabled = timed("Disabled", LocalDateTime.now().plusNanos(150_000_000));
+        timers.update(cancelled);
+        timers.update(completed);
+        timers.update(disabled);
+
+        timers.cancel(cancelled);
+        completed.setCompleted(true);
+        timers.update(completed);
+        disabled.setTimerEnabled(false);
+        timers.update(disabled);
+
+        assertEquals(0, timers.pending());
+        assertNull(started.poll(400, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testReschedulingMovesTheStart() throws Exception {
+        Task moved = timed("Moved", LocalDateTime.now().plusHours(1));
+        timers.update(moved);
+
+        moved.setStartTime(LocalDateTime.now().plusNanos(100_000_000));
+        timers.update(moved);
+        assertSame("An earlier start wakes the sleeping worker", moved, next());
+
+        // Once fired, a new start time schedules it again
+        moved.setStartTime(LocalDateTime.now().plusNanos(50_000_000));
+        timers.update(moved);
+        assertSame(moved, next());
+    }
+
+    @Test
+    public void testNothingFiresAfterClose() throws Exception {
+        timers.update(timed("Closed", LocalDateTime.now().plusNanos(100_000_000)));
+        timers.close();
+        assertNull(started.poll(300, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,68 @@
+package com.studyplanner;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TimerRecoveryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 3, 4, 12, 0);
+
+    private static Task timer(String title, LocalDateTime start, int minutes) {
+        Task t = new Task(title, start.toLocalDate());
+        t.setStartTime(start);
+        t.setDuration(Duration.ofMinutes(minutes));
+        t.setTimerEnabled(true);
+        return t;
+    }
+
+    @Test
+    public void testSplitsMissedRunningAndFutureInStartOrder() {
+        Task future = timer("Future", NOW.plusHours(1), 30);
+        Task running = timer("Running", NOW.minusMinutes(20), 30);
+        Task missedLate = timer("Missed late", NOW.minusMinutes(30), 30); // ends exactly now
+        Task missedEarly = timer("Missed early", NOW.minusDays(3), 60);
+        Task noTimer = timer("No timer", NOW.minusHours(1), 90);
+        noTimer.setTimerEnabled(false);
+        Task done = timer("Done", NOW.minusMinutes(5), 30);
+        done.setCompleted(true);
+
+        TimerRecovery.Plan plan = TimerRecovery.plan(
+            List.of(future, running, missedLate, noTimer, missedEarly, done), NOW);
+
+        assertEquals(List.of(missedEarly, missedLate), plan.missed());
+        assertEquals(1, plan.running().size());
+        assertSame(running, plan.running().get(0).task());
+        assertEquals(Duration.ofMinutes(10), plan.running().get(0).remaining());
+        assertEquals(List.of(future), plan.future());
+    }
+
+    @Test
+    public void testSummaryNamesAtMostTheLimit() {
+        List<Task> loaded = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) loaded.add(timer("Missed " + i, NOW.minusHours(5000 - i), 30));
+
+        TimerRecovery.Plan plan = TimerRecovery.plan(loaded, NOW);
+        assertEquals(5000, plan.missed().size());
+
+        String[] lines = plan.missedSummary().split("\n");
+        assertEquals(TimerRecovery.SUMMARY_LIMIT + 2, lines.length);
+        assertTrue(lines[0].startsWith("Missed 5000 timers"));
+        assertTrue(lines[1].startsWith("Missed 0 at"));
+        assertEquals("…and 4990 more", lines[lines.length - 1]);
+    }
+
+    @Test
+    public void testNothingLoadedMeansNothingToCatchUp() {
+        TimerRecovery.Plan plan = TimerRecovery.plan(List.of(new Task("Plain", LocalDate.of(2030, 3, 4))), NOW);
+        assertTrue(plan.missed().isEmpty());
+        assertTrue(plan.running().isEmpty());
+        assertTrue(plan.future().isEmpty());
+    }
+}
@@ -0,0 +1,174 @@
+package com.studyplanner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class WorkloadIndexTest {
+
+    // A Monday
+    private static final LocalDate DAY = LocalDate.of(2096, 6, 4);
+
+    private TaskStore store;
+    private WorkloadIndex workload;
+
+    @Before
+    public void setUp() {
+        store = new TaskStore();
+        workload = new WorkloadIndex(store);
+    }
+
+    private Task task(LocalDate date, String priority, int complexity, int minutes, String category) {
+        Task t = new Task("W", date);
+        t.setPriority(priority);
+        t.setComplexity(complexity);
+        t.setDuration(Duration.ofMinutes(minutes));
+        t.setCategory(category);
+        return t;
+    }
+
+    @Test
+    public void testDayTotalsWeighComplexityByPriority() {
+        store.add(task(DAY, "High", 4, 30, "Lab"));
+        store.add(task(DAY, "Low", 5, 60, "Lab"));
+
+        WorkloadIndex.Totals day = workload.day(DAY);
+        assertEquals(2, day.tasks());
+        assertEquals(90 * 60, day.durationSeconds());
+        assertEquals(4 * 3 + 5, day.weightedComplexity());
+        assertEquals(0.0, day.completionRatio(), 1e-9);
+        assertSame(WorkloadIndex.Totals.EMPTY, workload.day(DAY.plusDays(1)));
+    }
+
+    @Test
+    public void testTotalsFollowTaskChanges() {
+        Task t = task(DAY, "Medium", 2, 30, "Reading");
+        store.add(t);
+
+        t.setCompleted(true);
+        assertEquals(1.0, workload.day(DAY).completionRatio(), 1e-9);
+
+        t.setDuration(Duration.ofMinutes(45));
+        t.setComplexity(7);
+        assertEquals(45 * 60, workload.day(DAY).durationSeconds());
+        assertEquals(14, workload.day(DAY).weightedComplexity());
+
+        t.setCategory("Exams");
+        assertSame(WorkloadIndex.Totals.EMPTY, workload.category("Reading"));
+        assertEquals(1, workload.category("Exams").tasks());
+
+        store.remove(t);
+        assertSame(WorkloadIndex.Totals.EMPTY, workload.day(DAY));
+        assertSame(WorkloadIndex.Totals.EMPTY, workload.category("Exams"));
+    }
+
+    @Test
+    public void testWeekRunsMondayToSunday() {
+        store.add(task(DAY.minusDays(1), "Low", 1, 10, "G"));  // previous Sunday
+        store.add(task(DAY, "Low", 1, 20, "G"));
+        store.add(task(DAY.plusDays(6), "Low", 1, 40, "G"));   // Sunday
+        store.add(task(DAY.plusDays(7), "Low", 1, 80, "G"));
+
+        assertEquals(60 * 60, workload.week(DAY.plusDays(3)).durationSeconds());
+        assertEquals(2, workload.week(DAY.plusDays(6)).tasks());
+    }
+
+    @Test
+    public void testStartsFromTasksAlreadyInStore() {
+        TaskStore filled = new TaskStore();
+        filled.add(task(DAY, "High", 1, 15, "G"));
+        assertEquals(1, new WorkloadIndex(filled).day(DAY).tasks());
+    }
+
+    @Test
+    public void testRangesMatchBruteForceAcrossWideDates() {
+        Random random = new Random(7);
+        List<Task> added = new ArrayList<>();
+        // Dates spread over decades force the covered range to grow both ways
+        for (int i = 0; i < 2000; i++) {
+            LocalDate date = DAY.plusDays(random.nextInt(20_000) - 10_000);
+            Task t = task(date, i % 2 == 0 ? "High" : "Low", 1 + random.nextInt(10), random.nextInt(120), "G");
+            store.add(t);
+            if (i % 5 == 0) t.setCompleted(true);
+            if (i % 7 == 0) store.remove(t); else added.add(t);
+        }
+
+        for (int q = 0; q < 200; q++) {
+            LocalDate from = DAY.plusDays(random.nextInt(24_000) - 12_000);
+            LocalDate to = from.plusDays(random.nextInt(3000));
+            int count = 0, completed = 0;
+            long seconds = 0;
+            for (Task t : added) {
+                if (!t.getDate().isBefore(from) && !t.getDate().isAfter(to)) {
+                    count++;
+                    if (t.isCompleted()) completed++;
+                    seconds += t.getDuration().getSeconds();
+                }
+            }
+            WorkloadIndex.Totals totals = workload.between(from, to);
+            assertEquals(count, totals.tasks());
+            assertEquals(completed, totals.completed());
+            assertEquals(seconds, totals.durationSeconds());
+        }
+        assertEquals(added.size(), workload.category("G").tasks());
+    }
+
+    @Test
+    public void testFarDatedTasksCostOneBlockEach() {
+        store.add(task(DAY, "High", 2, 30, "Far"));
+        Task far = task(LocalDate.of(9999, 12, 31), "Low", 3, 60, "Far");
+        Task max = task(LocalDate.MAX, "Low", 1, 15, "Far");
+        Task min = task(LocalDate.MIN, "Low", 1, 15, "Far");
+        store.add(far);
+        store.add(max);
+        store.add(min);
+
+        assertEquals(4, workload.blockCount());
+        assertEquals(60 * 60, workload.day(LocalDate.of(9999, 12, 31)).durationSeconds());
+        assertEquals(1, workload.day(LocalDate.MAX).tasks());
+        assertEquals(1, workload.day(LocalDate.MIN).tasks());
+        assertEquals(4, workload.between(LocalDate.MIN, LocalDate.MAX).tasks());
+        assertEquals(2, workload.between(DAY, LocalDate.of(9999, 12, 31)).tasks());
+
+        // Blocks left empty are released
+        store.remove(far);
+        store.remove(max);
+        store.remove(min);
+        assertEquals(1, workload.blockCount());
+        assertEquals(1, workload.between(LocalDate.MIN, LocalDate.MAX).tasks());
+    }
+
+    @Test
+    public void testParallelWritersKeepTotalsExact() throws Exception {
+        int threads = 4, perThread = 3000;
+        Thread[] writers = new Thread[threads];
+        for (int w = 0; w < threads; w++) {
+            int seed = w;
+            writers[w] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < perThread; i++) {
+                    // Few dates and two blocks, so writers contend and blocks empty and refill
+                    Task t = task(DAY.plusDays(random.nextInt(4) * 200), "Low", 1, 10, "Shared");
+                    store.add(t);
+                    t.setDuration(Duration.ofMinutes(20));
+                    if (i % 2 == 0) store.remove(t);
+                }
+            });
+            writers[w].start();
+        }
+        for (Thread w : writers) w.join();
+
+        int kept = threads * perThread / 2;
+        WorkloadIndex.Totals all = workload.between(DAY, DAY.plusDays(600));
+        assertEquals(kept, all.tasks());
+        assertEquals(kept * 20L * 60, all.durationSeconds());
+        assertEquals(kept, workload.category("Shared").tasks());
+    }
+}